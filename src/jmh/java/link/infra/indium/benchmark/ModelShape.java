@@ -0,0 +1,60 @@
+package link.infra.indium.benchmark;
+
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.minecraft.util.math.Direction;
+
+/**
+ * Quad sets that exercise the different lighting paths: full block faces, inset faces and sloped
+ * (irregular) faces.
+ */
+public enum ModelShape {
+	/** Six faces on the block bounds, lit as vanilla full faces. */
+	CUBE {
+		@Override
+		void emit(QuadEmitter emitter) {
+			for (Direction face : Direction.values()) {
+				emitter.square(face, 0, 0, 1, 1, 0);
+				emitter.color(-1, -1, -1, -1);
+				emitter.emit();
+			}
+		}
+	},
+	/** Six axis-aligned faces inset from the block bounds, lit with blended inset faces. */
+	INSET {
+		@Override
+		void emit(QuadEmitter emitter) {
+			for (Direction face : Direction.values()) {
+				emitter.square(face, 0.125f, 0.125f, 0.875f, 0.875f, 0.125f);
+				emitter.color(-1, -1, -1, -1);
+				emitter.emit();
+			}
+		}
+	},
+	/** A ramp: one sloped face, two triangular sides and two full faces. */
+	SLOPED {
+		@Override
+		void emit(QuadEmitter emitter) {
+			emitter.pos(0, 0, 1, 0).pos(1, 0, 0, 1).pos(2, 1, 0, 1).pos(3, 1, 1, 0);
+			emitter.color(-1, -1, -1, -1);
+			emitter.emit();
+
+			emitter.pos(0, 0, 1, 0).pos(1, 0, 0, 0).pos(2, 0, 0, 1).pos(3, 0, 0, 1);
+			emitter.color(-1, -1, -1, -1);
+			emitter.emit();
+
+			emitter.pos(0, 1, 1, 0).pos(1, 1, 0, 1).pos(2, 1, 0, 0).pos(3, 1, 0, 0);
+			emitter.color(-1, -1, -1, -1);
+			emitter.emit();
+
+			emitter.square(Direction.DOWN, 0, 0, 1, 1, 0);
+			emitter.color(-1, -1, -1, -1);
+			emitter.emit();
+
+			emitter.square(Direction.NORTH, 0, 0, 1, 1, 0);
+			emitter.color(-1, -1, -1, -1);
+			emitter.emit();
+		}
+	};
+
+	abstract void emit(QuadEmitter emitter);
+}
@@ -0,0 +1,114 @@
+package link.infra.indium.benchmark;
+
+import org.jetbrains.annotations.Nullable;
+
+import me.jellysquid.mods.sodium.client.model.light.data.LightDataAccess;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.BlockRenderView;
+import net.minecraft.world.BlockView;
+import net.minecraft.world.LightType;
+import net.minecraft.world.biome.ColorResolver;
+import net.minecraft.world.chunk.ChunkProvider;
+import net.minecraft.world.chunk.light.LightSourceView;
+import net.minecraft.world.chunk.light.LightingProvider;
+
+/**
+ * Minimal world for benchmarks. Light levels are read from the same {@link SyntheticLightDataAccess} that the
+ * render context uses, so code that queries the world for light directly sees the same values.
+ */
+public class SyntheticBlockView implements BlockRenderView {
+	private final SyntheticLightDataAccess light;
+	private final LightingProvider lightingProvider;
+
+	public SyntheticBlockView(SyntheticLightDataAccess light) {
+		this.light = light;
+
+		// Light engines are disabled; combined light is answered from the synthetic light data instead
+		this.lightingProvider = new LightingProvider(new ChunkProvider() {
+			@Nullable
+			@Override
+			public LightSourceView getChunk(int chunkX, int chunkZ) {
+				return null;
+			}
+
+			@Override
+			public BlockView getWorld() {
+				return SyntheticBlockView.this;
+			}
+		}, false, false) {
+			@Override
+			public int getLight(BlockPos pos, int ambientDarkness) {
+				return getBaseLightLevel(pos, ambientDarkness);
+			}
+		};
+	}
+
+	@Override
+	public float getBrightness(Direction direction, boolean shaded) {
+		if (!shaded) {
+			return 1.0f;
+		}
+
+		// Overworld values from ClientWorld
+		return switch (direction) {
+		case DOWN -> 0.5f;
+		case UP -> 1.0f;
+		case NORTH, SOUTH -> 0.8f;
+		case WEST, EAST -> 0.6f;
+		};
+	}
+
+	@Override
+	public LightingProvider getLightingProvider() {
+		return lightingProvider;
+	}
+
+	@Override
+	public int getLightLevel(LightType type, BlockPos pos) {
+		final int word = light.get(pos.getX(), pos.getY(), pos.getZ());
+		return type == LightType.SKY ? LightDataAccess.unpackSL(word) : LightDataAccess.unpackBL(word);
+	}
+
+	@Override
+	public int getBaseLightLevel(BlockPos pos, int ambientDarkness) {
+		final int word = light.get(pos.getX(), pos.getY(), pos.getZ());
+		return Math.max(LightDataAccess.unpackBL(word), LightDataAccess.unpackSL(word) - ambientDarkness);
+	}
+
+	@Override
+	public int getColor(BlockPos pos, ColorResolver colorResolver) {
+		return -1;
+	}
+
+	@Nullable
+	@Override
+	public BlockEntity getBlockEntity(BlockPos pos) {
+		return null;
+	}
+
+	@Override
+	public BlockState getBlockState(BlockPos pos) {
+		return Blocks.STONE.getDefaultState();
+	}
+
+	@Override
+	public FluidState getFluidState(BlockPos pos) {
+		return Fluids.EMPTY.getDefaultState();
+	}
+
+	@Override
+	public int getHeight() {
+		return 384;
+	}
+
+	@Override
+	public int getBottomY() {
+		return -64;
+	}
+}
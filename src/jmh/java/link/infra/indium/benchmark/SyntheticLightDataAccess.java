@@ -0,0 +1,34 @@
+package link.infra.indium.benchmark;
+
+import java.util.SplittableRandom;
+
+import me.jellysquid.mods.sodium.client.model.light.data.LightDataAccess;
+
+/**
+ * Light data for a repeating 16x16x16 region of pseudo-random occluders and light levels,
+ * standing in for the {@code ArrayLightDataCache} of a chunk build.
+ */
+public class SyntheticLightDataAccess extends LightDataAccess {
+	private static final int SIZE = 16;
+	private static final int MASK = SIZE - 1;
+
+	private final int[] words = new int[SIZE * SIZE * SIZE];
+
+	public SyntheticLightDataAccess(long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+
+		for (int i = 0; i < words.length; i++) {
+			boolean opaque = random.nextInt(4) == 0;
+			int skyLight = opaque ? 0 : 15 - random.nextInt(6);
+			int blockLight = random.nextInt(16);
+
+			words[i] = packFC(opaque) | packFO(opaque) | packOP(opaque) | packEM(false)
+					| packAO(opaque ? 0.2f : 1.0f) | packLU(0) | packSL(skyLight) | packBL(blockLight);
+		}
+	}
+
+	@Override
+	public int get(int x, int y, int z) {
+		return words[((z & MASK) * SIZE + (y & MASK)) * SIZE + (x & MASK)];
+	}
+}
@@ -0,0 +1,105 @@
+package link.infra.indium.benchmark;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.Nullable;
+
+import link.infra.indium.renderer.mesh.MeshBuilderImpl;
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.MeshBuilder;
+import net.fabricmc.fabric.api.renderer.v1.model.FabricBakedModel;
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.BakedQuad;
+import net.minecraft.client.render.model.json.ModelOverrideList;
+import net.minecraft.client.render.model.json.ModelTransformation;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.BlockRenderView;
+
+/**
+ * Non-vanilla model emitting a {@link ModelShape}, either from a prebuilt mesh or through the emitter on every call.
+ * Only the Fabric methods are meaningful; the vanilla ones exist so the model can be passed to the terrain context.
+ */
+public class SyntheticModel implements BakedModel, FabricBakedModel {
+	private final ModelShape shape;
+	private final Mesh mesh;
+	private final boolean useMesh;
+
+	public SyntheticModel(ModelShape shape, boolean useMesh) {
+		this.shape = shape;
+		this.useMesh = useMesh;
+
+		MeshBuilder builder = new MeshBuilderImpl();
+		shape.emit(builder.getEmitter());
+		this.mesh = builder.build();
+	}
+
+	@Override
+	public boolean isVanillaAdapter() {
+		return false;
+	}
+
+	@Override
+	public void emitBlockQuads(BlockRenderView blockView, BlockState state, BlockPos pos, Supplier<Random> randomSupplier, RenderContext context) {
+		emit(context);
+	}
+
+	@Override
+	public void emitItemQuads(ItemStack stack, Supplier<Random> randomSupplier, RenderContext context) {
+		emit(context);
+	}
+
+	private void emit(RenderContext context) {
+		if (useMesh) {
+			mesh.outputTo(context.getEmitter());
+		} else {
+			shape.emit(context.getEmitter());
+		}
+	}
+
+	@Override
+	public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction face, Random random) {
+		return List.of();
+	}
+
+	@Override
+	public boolean useAmbientOcclusion() {
+		return true;
+	}
+
+	@Override
+	public boolean hasDepth() {
+		return true;
+	}
+
+	@Override
+	public boolean isSideLit() {
+		return true;
+	}
+
+	@Override
+	public boolean isBuiltin() {
+		return false;
+	}
+
+	@Override
+	public Sprite getParticleSprite() {
+		return null;
+	}
+
+	@Override
+	public ModelTransformation getTransformation() {
+		return ModelTransformation.NONE;
+	}
+
+	@Override
+	public ModelOverrideList getOverrides() {
+		return ModelOverrideList.EMPTY;
+	}
+}
@@ -0,0 +1,105 @@
+package link.infra.indium.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import link.infra.indium.renderer.aocalc.AoConfig;
+import link.infra.indium.renderer.render.BenchmarkBlockRenderContext;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Measures the terrain quad pipeline (emit, transform, cull, colorize, AO/flat shading, buffering)
+ * for each AO mode, through {@code TerrainRenderContext.tessellateBlock}. The primary score is blocks/s;
+ * the {@code quads} counter reports quads/s. Run with {@code ./gradlew jmh} to also get allocation rates
+ * from the GC profiler. Optional features such as the block quad cache are read from the Indium config
+ * file selected by the {@code jmh} task.
+ *
+ * <p>The vanilla smooth lighter is only available in game, so {@link AoConfig#VANILLA} measures
+ * its fallback to the emulated path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TerrainQuadBenchmark {
+	/** Number of distinct positions cycled through, so that lighting input varies between blocks. */
+	private static final int POSITION_COUNT = 64;
+
+	@Param
+	public AoConfig aoMode;
+
+	@Param
+	public ModelShape shape;
+
+	private BenchmarkBlockRenderContext context;
+	private SyntheticModel meshModel;
+	private SyntheticModel emitterModel;
+	private BlockState state;
+	private final BlockPos[] positions = new BlockPos[POSITION_COUNT];
+	private int positionIndex;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class QuadCounter {
+		public long quads;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			quads = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+
+		final SyntheticLightDataAccess light = new SyntheticLightDataAccess(42L);
+		context = new BenchmarkBlockRenderContext(new SyntheticBlockView(light), light, aoMode);
+		meshModel = new SyntheticModel(shape, true);
+		emitterModel = new SyntheticModel(shape, false);
+		state = Blocks.STONE.getDefaultState();
+
+		for (int i = 0; i < POSITION_COUNT; i++) {
+			positions[i] = new BlockPos(i & 3, (i >> 2) & 3, i >> 4);
+		}
+	}
+
+	private BlockPos nextPos() {
+		positionIndex = (positionIndex + 1) & (POSITION_COUNT - 1);
+		return positions[positionIndex];
+	}
+
+	@Benchmark
+	public long tessellateMesh(QuadCounter counter) {
+		BlockPos pos = nextPos();
+		counter.quads += context.tessellate(meshModel, state, pos, pos.asLong());
+		return context.checksum();
+	}
+
+	@Benchmark
+	public long tessellateEmitter(QuadCounter counter) {
+		BlockPos pos = nextPos();
+		counter.quads += context.tessellate(emitterModel, state, pos, pos.asLong());
+		return context.checksum();
+	}
+}
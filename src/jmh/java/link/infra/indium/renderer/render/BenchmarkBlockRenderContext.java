@@ -0,0 +1,72 @@
+package link.infra.indium.renderer.render;
+
+import link.infra.indium.renderer.aocalc.AoConfig;
+import link.infra.indium.renderer.mesh.MutableQuadViewImpl;
+import me.jellysquid.mods.sodium.client.model.light.data.LightDataAccess;
+import me.jellysquid.mods.sodium.client.render.chunk.compile.pipeline.BlockOcclusionCache;
+import me.jellysquid.mods.sodium.client.render.chunk.compile.pipeline.BlockRenderContext;
+import me.jellysquid.mods.sodium.client.render.chunk.terrain.material.Material;
+import me.jellysquid.mods.sodium.client.render.chunk.vertex.format.ChunkVertexEncoder;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.color.block.BlockColors;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockRenderView;
+
+/**
+ * Terrain render context that runs {@link TerrainRenderContext#tessellateBlock} without Sodium's chunk build state,
+ * including the optional features selected in the Indium config. Only the final write to the chunk build buffers
+ * is replaced: pushed vertices are folded into a checksum instead.
+ */
+public class BenchmarkBlockRenderContext extends TerrainRenderContext {
+	/** Not attached to a world slice; the model offset lookup is the only use of it, and the benchmark blocks have none. */
+	private final BlockRenderContext blockContext = new BlockRenderContext(null);
+
+	private long checksum;
+	private int quadCount;
+
+	public BenchmarkBlockRenderContext(BlockRenderView blockView, LightDataAccess lightCache, AoConfig aoMode) {
+		super(new BenchmarkBlockRenderInfo(), lightCache, null, aoMode);
+		blockInfo.prepareForWorld(blockView, false);
+	}
+
+	@Override
+	protected void pushQuad(MutableQuadViewImpl quad, Material material, ChunkVertexEncoder.Vertex[] vertices) {
+		long checksum = this.checksum;
+
+		for (ChunkVertexEncoder.Vertex vertex : vertices) {
+			checksum = checksum * 31 + Float.floatToRawIntBits(vertex.x + vertex.y + vertex.z);
+			checksum = checksum * 31 + vertex.color;
+			checksum = checksum * 31 + vertex.light;
+		}
+
+		this.checksum = checksum * 31 + quad.normalFace().ordinal();
+		quadCount++;
+	}
+
+	/**
+	 * Tessellates a single block and returns the number of quads that were buffered.
+	 */
+	public int tessellate(BakedModel model, BlockState state, BlockPos pos, long seed) {
+		quadCount = 0;
+		blockContext.update(pos, pos, state, model, seed);
+		tessellateBlock(blockContext);
+		return quadCount;
+	}
+
+	public long checksum() {
+		return checksum;
+	}
+
+	private static class BenchmarkBlockRenderInfo extends TerrainBlockRenderInfo {
+		BenchmarkBlockRenderInfo() {
+			super(new BlockColors(), new BlockOcclusionCache());
+		}
+
+		// There are no client options to read smooth lighting from
+		@Override
+		boolean isAmbientOcclusionEnabled() {
+			return true;
+		}
+	}
+}
@@ -29,6 +29,8 @@ import org.slf4j.Logger;
 
 import com.mojang.logging.LogUtils;
 
+import link.infra.indium.other.ModelCaches;
+import link.infra.indium.other.ModelProfilerCommand;
 import link.infra.indium.other.SpriteFinderCache;
 import link.infra.indium.renderer.IndiumRenderer;
 import link.infra.indium.renderer.aocalc.AoConfig;
@@ -43,6 +45,24 @@ import net.minecraft.resource.ResourceType;
 public class Indium implements ClientModInitializer {
 	public static final boolean ALWAYS_TESSELLATE_INDIUM;
 	public static final AoConfig AMBIENT_OCCLUSION_MODE;
+	/** Maximum number of block models whose quads are cached for reuse, or 0 to disable the cache. */
+	public static final int BLOCK_QUAD_CACHE_SIZE;
+	/** Whether built meshes store their data in direct buffers outside of the Java heap. */
+	public static final boolean OFF_HEAP_MESHES;
+	/** Whether built meshes store their quads in a losslessly compressed format. Takes priority over {@link #OFF_HEAP_MESHES}. */
+	public static final boolean COMPACT_MESHES;
+	/** Whether built meshes with identical content share a single instance. */
+	public static final boolean DEDUPLICATE_MESHES;
+	/** Whether chunk builds are instrumented, with the totals shown on the debug screen. */
+	public static final boolean PROFILE_CHUNK_BUILDS;
+	/** Time every Nth block tessellated per chunk build thread for the model cost report, or 0 to disable. */
+	public static final int MODEL_PROFILER_SAMPLE_RATE;
+	/** Whether the computed geometry of vanilla baked quads is remembered across blocks. */
+	public static final boolean CACHE_VANILLA_QUAD_GEOMETRY;
+	/** Number of consistent observations after which models that only forward to a vanilla model are rendered by Sodium, or 0 to disable. */
+	public static final int VANILLA_PASSTHROUGH_THRESHOLD;
+	/** Maximum number of item renders whose quads are cached for reuse, or 0 to disable the cache. */
+	public static final int ITEM_QUAD_CACHE_SIZE;
 
 	public static final Logger LOGGER = LogUtils.getLogger();
 
@@ -73,6 +93,19 @@ public class Indium implements ClientModInitializer {
 		}
 	}
 
+	private static int asInt(String property, int defValue) {
+		if (property == null || property.isEmpty() || property.equalsIgnoreCase("auto")) {
+			return defValue;
+		}
+
+		try {
+			return Integer.parseInt(property.trim());
+		} catch (NumberFormatException e) {
+			LOGGER.warn("[Indium] Invalid integer value '" + property + "', using default of " + defValue);
+			return defValue;
+		}
+	}
+
 	private static TriState asTriState(String property) {
 		if (property == null || property.isEmpty()) {
 			return TriState.DEFAULT;
@@ -90,7 +123,9 @@ public class Indium implements ClientModInitializer {
 	}
 
 	static {
-		Path configFile = FabricLoader.getInstance().getConfigDir().resolve("indium-renderer.properties");
+		// Benchmarks run without Fabric Loader, so they point at a config file directly
+		String configPath = System.getProperty("indium.config");
+		Path configFile = configPath != null ? Path.of(configPath) : FabricLoader.getInstance().getConfigDir().resolve("indium-renderer.properties");
 		Properties properties = new Properties();
 
 		if (Files.exists(configFile)) {
@@ -103,6 +138,15 @@ public class Indium implements ClientModInitializer {
 
 		ALWAYS_TESSELLATE_INDIUM = asBoolean((String) properties.computeIfAbsent("always-tesselate-blocks", (a) -> "auto"), false);
 		AMBIENT_OCCLUSION_MODE = asEnum((String) properties.computeIfAbsent("ambient-occlusion-mode", (a) -> "auto"), AoConfig.ENHANCED);
+		BLOCK_QUAD_CACHE_SIZE = Math.max(0, asInt((String) properties.computeIfAbsent("block-quad-cache-size", (a) -> "auto"), 0));
+		OFF_HEAP_MESHES = asBoolean((String) properties.computeIfAbsent("off-heap-meshes", (a) -> "auto"), false);
+		COMPACT_MESHES = asBoolean((String) properties.computeIfAbsent("compact-meshes", (a) -> "auto"), false);
+		DEDUPLICATE_MESHES = asBoolean((String) properties.computeIfAbsent("deduplicate-meshes", (a) -> "auto"), false);
+		PROFILE_CHUNK_BUILDS = asBoolean((String) properties.computeIfAbsent("profile-chunk-builds", (a) -> "auto"), false);
+		MODEL_PROFILER_SAMPLE_RATE = Math.max(0, asInt((String) properties.computeIfAbsent("model-profiler-sample-rate", (a) -> "auto"), 0));
+		CACHE_VANILLA_QUAD_GEOMETRY = asBoolean((String) properties.computeIfAbsent("cache-vanilla-quad-geometry", (a) -> "auto"), false);
+		VANILLA_PASSTHROUGH_THRESHOLD = Math.max(0, asInt((String) properties.computeIfAbsent("vanilla-passthrough-threshold", (a) -> "auto"), 0));
+		ITEM_QUAD_CACHE_SIZE = Math.max(0, asInt((String) properties.computeIfAbsent("item-quad-cache-size", (a) -> "auto"), 0));
 
 		try (OutputStream stream = Files.newOutputStream(configFile)) {
 			properties.store(stream, "Indium properties file");
@@ -140,5 +184,14 @@ public class Indium implements ClientModInitializer {
 		}
 
 		ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(SpriteFinderCache.ReloadListener.INSTANCE);
+		ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(ModelCaches.ReloadListener.INSTANCE);
+
+		if (MODEL_PROFILER_SAMPLE_RATE > 0 || PROFILE_CHUNK_BUILDS) {
+			if (FabricLoader.getInstance().isModLoaded("fabric-command-api-v2")) {
+				ModelProfilerCommand.register();
+			} else {
+				LOGGER.warn("[Indium] Profiling is enabled, but the profiler commands can't be registered without the Fabric client command API");
+			}
+		}
 	}
 }
@@ -0,0 +1,16 @@
+package link.infra.indium.mixin.renderer;
+
+import java.util.Map;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.texture.SpriteAtlasTexture;
+import net.minecraft.util.Identifier;
+
+@Mixin(SpriteAtlasTexture.class)
+public interface AccessSpriteAtlasTexture {
+	@Accessor("sprites")
+	Map<Identifier, Sprite> indium$sprites();
+}
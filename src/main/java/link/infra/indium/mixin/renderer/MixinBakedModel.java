@@ -19,7 +19,6 @@ package link.infra.indium.mixin.renderer;
 import link.infra.indium.renderer.render.AbstractBlockRenderContext;
 import net.fabricmc.fabric.api.renderer.v1.model.FabricBakedModel;
 import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
-import net.fabricmc.fabric.impl.renderer.VanillaModelEncoder;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.render.model.BakedModel;
 import net.minecraft.util.math.BlockPos;
@@ -36,6 +35,6 @@ public interface MixinBakedModel extends FabricBakedModel {
 	 */
 	@Override
 	default void emitBlockQuads(BlockRenderView blockView, BlockState state, BlockPos pos, Supplier<Random> randomSupplier, RenderContext context) {
-		VanillaModelEncoder.emitBlockQuads((BakedModel) this, state, randomSupplier, context, ((AbstractBlockRenderContext) context).getVanillaModelEmitter());
+		((AbstractBlockRenderContext) context).emitVanillaModel((BakedModel) this, state, randomSupplier);
 	}
 }
\ No newline at end of file
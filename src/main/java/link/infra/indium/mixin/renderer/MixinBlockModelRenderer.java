@@ -20,7 +20,6 @@ import java.util.BitSet;
 
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -40,17 +39,20 @@ import net.minecraft.world.BlockRenderView;
 
 @Mixin(BlockModelRenderer.class)
 public abstract class MixinBlockModelRenderer implements AccessBlockModelRenderer {
-	@Unique
-	private final ThreadLocal<NonTerrainBlockRenderContext> indium_contexts = ThreadLocal.withInitial(NonTerrainBlockRenderContext::new);
-
 	@Shadow
 	protected abstract void getQuadDimensions(BlockRenderView blockView, BlockState blockState, BlockPos blockPos, int[] vertexData, Direction face, float[] aoData, BitSet controlBits);
 
 	@Inject(at = @At("HEAD"), method = "render(Lnet/minecraft/world/BlockRenderView;Lnet/minecraft/client/render/model/BakedModel;Lnet/minecraft/block/BlockState;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/client/render/VertexConsumer;ZLnet/minecraft/util/math/random/Random;JI)V", cancellable = true)
 	private void hookRender(BlockRenderView blockView, BakedModel model, BlockState state, BlockPos pos, MatrixStack matrix, VertexConsumer buffer, boolean cull, Random rand, long seed, int overlay, CallbackInfo ci) {
 		if (!model.isVanillaAdapter()) {
-			NonTerrainBlockRenderContext context = indium_contexts.get();
-			context.render(blockView, model, state, pos, matrix, buffer, cull, rand, seed, overlay);
+			NonTerrainBlockRenderContext context = NonTerrainBlockRenderContext.acquire();
+
+			try {
+				context.render(blockView, model, state, pos, matrix, buffer, cull, rand, seed, overlay);
+			} finally {
+				context.release();
+			}
+
 			ci.cancel();
 		}
 	}
@@ -0,0 +1,22 @@
+package link.infra.indium.mixin.renderer;
+
+import java.util.List;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import link.infra.indium.Indium;
+import link.infra.indium.renderer.render.ChunkBuildStats;
+import net.minecraft.client.gui.hud.DebugHud;
+
+@Mixin(DebugHud.class)
+public class MixinDebugHud {
+	@Inject(method = "getLeftText", at = @At("RETURN"))
+	private void onGetLeftText(CallbackInfoReturnable<List<String>> cir) {
+		if (Indium.PROFILE_CHUNK_BUILDS) {
+			ChunkBuildStats.addDebugText(cir.getReturnValue());
+		}
+	}
+}
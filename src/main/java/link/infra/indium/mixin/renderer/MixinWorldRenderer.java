@@ -0,0 +1,21 @@
+package link.infra.indium.mixin.renderer;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import link.infra.indium.Indium;
+import link.infra.indium.renderer.render.ChunkBuildStats;
+import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.world.ClientWorld;
+
+@Mixin(WorldRenderer.class)
+public class MixinWorldRenderer {
+	@Inject(method = "setWorld", at = @At("HEAD"))
+	private void onSetWorld(ClientWorld world, CallbackInfo ci) {
+		if (Indium.PROFILE_CHUNK_BUILDS) {
+			ChunkBuildStats.reset();
+		}
+	}
+}
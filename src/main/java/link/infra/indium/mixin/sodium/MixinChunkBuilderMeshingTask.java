@@ -43,6 +43,10 @@ public abstract class MixinChunkBuilderMeshingTask extends ChunkBuilderTask<Chun
 			TerrainRenderContext.get(buildContext).tessellateBlock(ctx);
 		} else {
 			blockRenderer.renderModel(ctx, buffers);
+
+			if (Indium.PROFILE_CHUNK_BUILDS) {
+				TerrainRenderContext.get(buildContext).countDelegatedBlock();
+			}
 		}
 	}
 }
@@ -0,0 +1,120 @@
+package link.infra.indium.other;
+
+import java.util.Collection;
+
+import link.infra.indium.mixin.renderer.AccessSpriteAtlasTexture;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadView;
+import net.fabricmc.fabric.api.renderer.v1.model.SpriteFinder;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.texture.SpriteAtlasTexture;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Finds atlas sprites from texture coordinates using a uniform grid over the atlas.
+ * Grid cells lying entirely within a single sprite resolve with one array read; cells on sprite
+ * borders or in unused atlas space defer to the {@link SpriteFinder} of the atlas.
+ *
+ * <p>The grid is sized so that its cells are no larger than the smallest sprite, which keeps almost every
+ * quad centroid away from border cells.
+ */
+public final class AtlasSpriteIndex {
+	private static final int MAX_CELLS_PER_AXIS = 512;
+
+	private final SpriteFinder fallback;
+	private final int cellsU;
+	private final int cellsV;
+	private final Sprite[] cells;
+
+	private AtlasSpriteIndex(SpriteFinder fallback, int cellsU, int cellsV, Sprite[] cells) {
+		this.fallback = fallback;
+		this.cellsU = cellsU;
+		this.cellsV = cellsV;
+		this.cells = cells;
+	}
+
+	/**
+	 * Builds the index for an atlas, which can be done off the main thread. The fallback must be obtained on the
+	 * main thread, as {@link SpriteFinder#get} initializes it lazily without synchronization.
+	 */
+	public static AtlasSpriteIndex build(SpriteAtlasTexture atlas, SpriteFinder fallback) {
+		final Collection<Sprite> sprites = ((AccessSpriteAtlasTexture) atlas).indium$sprites().values();
+		float minWidth = 1;
+		float minHeight = 1;
+
+		for (Sprite sprite : sprites) {
+			minWidth = Math.min(minWidth, sprite.getMaxU() - sprite.getMinU());
+			minHeight = Math.min(minHeight, sprite.getMaxV() - sprite.getMinV());
+		}
+
+		final int cellsU = cellCount(minWidth);
+		final int cellsV = cellCount(minHeight);
+		final Sprite[] cells = new Sprite[cellsU * cellsV];
+		final boolean[] shared = new boolean[cells.length];
+
+		for (Sprite sprite : sprites) {
+			final float u0 = sprite.getMinU() * cellsU;
+			final float u1 = sprite.getMaxU() * cellsU;
+			final float v0 = sprite.getMinV() * cellsV;
+			final float v1 = sprite.getMaxV() * cellsV;
+			final int maxI = Math.min(cellsU - 1, MathHelper.ceil(u1) - 1);
+			final int maxJ = Math.min(cellsV - 1, MathHelper.ceil(v1) - 1);
+
+			for (int j = Math.max(0, MathHelper.floor(v0)); j <= maxJ; j++) {
+				for (int i = Math.max(0, MathHelper.floor(u0)); i <= maxI; i++) {
+					final int index = j * cellsU + i;
+					final boolean covers = i >= u0 && i + 1 <= u1 && j >= v0 && j + 1 <= v1;
+
+					if (covers && cells[index] == null) {
+						cells[index] = sprite;
+					} else {
+						shared[index] = true;
+					}
+				}
+			}
+		}
+
+		for (int index = 0; index < cells.length; index++) {
+			if (shared[index]) {
+				cells[index] = null;
+			}
+		}
+
+		return new AtlasSpriteIndex(fallback, cellsU, cellsV, cells);
+	}
+
+	private static int cellCount(float minSize) {
+		if (minSize <= 0) {
+			return MAX_CELLS_PER_AXIS;
+		}
+
+		return Math.min(MAX_CELLS_PER_AXIS, MathHelper.smallestEncompassingPowerOfTwo(MathHelper.ceil(1 / minSize)));
+	}
+
+	/**
+	 * Finds the sprite containing the centroid of the quad's texture coordinates, like {@link SpriteFinder#find(QuadView)}.
+	 */
+	public Sprite find(QuadView quad) {
+		final float u = (quad.u(0) + quad.u(1) + quad.u(2) + quad.u(3)) * 0.25f;
+		final float v = (quad.v(0) + quad.v(1) + quad.v(2) + quad.v(3)) * 0.25f;
+		return find(u, v);
+	}
+
+	public Sprite find(float u, float v) {
+		final int i = (int) (u * cellsU);
+		final int j = (int) (v * cellsV);
+
+		if (u >= 0 && v >= 0 && i < cellsU && j < cellsV) {
+			final Sprite sprite = cells[j * cellsU + i];
+
+			if (sprite != null) {
+				return sprite;
+			}
+		}
+
+		return fallback.find(u, v);
+	}
+
+	public SpriteFinder fallback() {
+		return fallback;
+	}
+}
@@ -0,0 +1,50 @@
+package link.infra.indium.other;
+
+import java.util.Collection;
+import java.util.List;
+
+import link.infra.indium.renderer.mesh.VanillaQuadGeometryCache;
+import link.infra.indium.renderer.render.BlockQuadCache;
+import link.infra.indium.renderer.render.ItemQuadCache;
+import link.infra.indium.renderer.render.VanillaPassthrough;
+import net.fabricmc.fabric.api.resource.ResourceReloadListenerKeys;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+
+/**
+ * Invalidates Indium's caches that reference baked models or sprites whenever models are reloaded.
+ */
+public class ModelCaches {
+	/** Clears every cache holding models or sprites from before a resource reload. */
+	public static void clear() {
+		BlockQuadCache.clear();
+		ItemQuadCache.clear();
+		VanillaQuadGeometryCache.clear();
+		VanillaPassthrough.clear();
+	}
+
+	public static class ReloadListener implements SimpleSynchronousResourceReloadListener {
+		public static final Identifier ID = new Identifier("indium", "model_caches");
+		public static final List<Identifier> DEPENDENCIES = List.of(ResourceReloadListenerKeys.MODELS);
+		public static final ReloadListener INSTANCE = new ReloadListener();
+
+		private ReloadListener() {
+		}
+
+		@Override
+		public void reload(ResourceManager manager) {
+			clear();
+		}
+
+		@Override
+		public Identifier getFabricId() {
+			return ID;
+		}
+
+		@Override
+		public Collection<Identifier> getFabricDependencies() {
+			return DEPENDENCIES;
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package link.infra.indium.other;
+
+import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import link.infra.indium.Indium;
+import link.infra.indium.renderer.render.ChunkBuildStats;
+import link.infra.indium.renderer.render.ModelCostProfiler;
+import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
+import net.minecraft.text.Text;
+
+/**
+ * Registers {@code /indium profiler dump} for the {@link ModelCostProfiler}, and {@code /indium profiler reset}
+ * which resets both the model profile and the {@link ChunkBuildStats} totals. Only loaded when the client command API is present.
+ */
+public class ModelProfilerCommand {
+	public static void register() {
+		ClientCommandRegistrationCallback.EVENT.register((dispatcher, registryAccess) -> dispatcher.register(literal("indium")
+				.then(literal("profiler")
+						.then(literal("dump").executes(context -> {
+							try {
+								Path file = ModelCostProfiler.dump();
+								context.getSource().sendFeedback(Text.literal("Wrote Indium model profile to " + file));
+								return 1;
+							} catch (IOException e) {
+								Indium.LOGGER.warn("[Indium] Could not write model profile", e);
+								context.getSource().sendError(Text.literal("Could not write Indium model profile: " + e.getMessage()));
+								return 0;
+							}
+						}))
+						.then(literal("reset").executes(context -> {
+							ModelCostProfiler.reset();
+							ChunkBuildStats.reset();
+							context.getSource().sendFeedback(Text.literal("Reset Indium profiler"));
+							return 1;
+						})))));
+	}
+}
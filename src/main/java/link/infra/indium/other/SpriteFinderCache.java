@@ -2,29 +2,33 @@ package link.infra.indium.other;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import net.fabricmc.fabric.api.renderer.v1.model.SpriteFinder;
+import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
 import net.fabricmc.fabric.api.resource.ResourceReloadListenerKeys;
-import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.render.model.BakedModelManager;
+import net.minecraft.client.texture.SpriteAtlasTexture;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.screen.PlayerScreenHandler;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.profiler.Profiler;
 
 /**
- * Cache SpriteFinders for maximum efficiency.
+ * Cache sprite lookups for maximum efficiency.
  *
- * <p><b>This class should not be used during a resource reload</b>, as returned SpriteFinders may be null or outdated.
+ * <p><b>This class should not be used during a resource reload</b>, as returned indices may be null or outdated.
  */
 public class SpriteFinderCache {
-	private static SpriteFinder blockAtlasSpriteFinder;
+	/** Replaced before each reload completes. */
+	private static volatile AtlasSpriteIndex blockAtlasSpriteIndex;
 
-	public static SpriteFinder forBlockAtlas() {
-		return blockAtlasSpriteFinder;
+	public static AtlasSpriteIndex forBlockAtlas() {
+		return blockAtlasSpriteIndex;
 	}
 
-	public static class ReloadListener implements SimpleSynchronousResourceReloadListener {
+	public static class ReloadListener implements IdentifiableResourceReloadListener {
 		public static final Identifier ID = new Identifier("indium", "sprite_finder_cache");
 		public static final List<Identifier> DEPENDENCIES = List.of(ResourceReloadListenerKeys.MODELS);
 		public static final ReloadListener INSTANCE = new ReloadListener();
@@ -32,11 +36,17 @@ public class SpriteFinderCache {
 		private ReloadListener() {
 		}
 
-		// BakedModelManager#getAtlas only returns correct results after the BakedModelManager is done reloading
+		// BakedModelManager#getAtlas only returns correct results after the BakedModelManager is done reloading,
+		// which is guaranteed once the synchronizer lets our apply stage run. The atlas and its SpriteFinder are
+		// fetched on the apply executor, and only the index is built on the prepare executor. The index is published
+		// as part of the returned future, so it is ready before the reload completes and a failure fails the reload.
 		@Override
-		public void reload(ResourceManager manager) {
-			BakedModelManager modelManager = MinecraftClient.getInstance().getBakedModelManager();
-			blockAtlasSpriteFinder = SpriteFinder.get(modelManager.getAtlas(PlayerScreenHandler.BLOCK_ATLAS_TEXTURE));
+		public CompletableFuture<Void> reload(Synchronizer synchronizer, ResourceManager manager, Profiler prepareProfiler, Profiler applyProfiler, Executor prepareExecutor, Executor applyExecutor) {
+			return synchronizer.whenPrepared(null).thenComposeAsync(unused -> {
+				SpriteAtlasTexture atlas = MinecraftClient.getInstance().getBakedModelManager().getAtlas(PlayerScreenHandler.BLOCK_ATLAS_TEXTURE);
+				SpriteFinder finder = SpriteFinder.get(atlas);
+				return CompletableFuture.supplyAsync(() -> AtlasSpriteIndex.build(atlas, finder), prepareExecutor);
+			}, applyExecutor).thenAcceptAsync(index -> blockAtlasSpriteIndex = index, applyExecutor);
 		}
 
 		@Override
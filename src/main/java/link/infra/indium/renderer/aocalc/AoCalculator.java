@@ -43,6 +43,7 @@ import link.infra.indium.renderer.mesh.EncodingFormat;
 import link.infra.indium.renderer.mesh.MutableQuadViewImpl;
 import link.infra.indium.renderer.mesh.QuadViewImpl;
 import link.infra.indium.renderer.render.BlockRenderInfo;
+import link.infra.indium.renderer.render.ChunkBuildStats;
 import me.jellysquid.mods.sodium.client.model.light.data.LightDataAccess;
 import net.minecraft.client.render.LightmapTextureManager;
 import net.minecraft.util.math.BlockPos;
@@ -71,6 +72,9 @@ public class AoCalculator {
 	private final AccessAmbientOcclusionCalculator vanillaCalc;
 	private final BlockRenderInfo blockInfo;
 	private final LightDataAccess lightCache;
+	private final AoConfig mode;
+	@Nullable
+	private ChunkBuildStats stats;
 
 	/** caches results of {@link #computeFace(Direction, boolean, boolean)} for the current block. */
 	private final AoFaceData[] faceData = new AoFaceData[24];
@@ -86,8 +90,13 @@ public class AoCalculator {
 	public final int[] light = new int[4];
 
 	public AoCalculator(BlockRenderInfo blockInfo, LightDataAccess lightCache) {
+		this(blockInfo, lightCache, Indium.AMBIENT_OCCLUSION_MODE);
+	}
+
+	public AoCalculator(BlockRenderInfo blockInfo, LightDataAccess lightCache, AoConfig mode) {
 		this.blockInfo = blockInfo;
 		this.lightCache = lightCache;
+		this.mode = mode;
 		this.vanillaCalc = VanillaAoHelper.get();
 
 		for (int i = 0; i < 24; i++) {
@@ -95,15 +104,23 @@ public class AoCalculator {
 		}
 	}
 
+	/** The smooth lighting mode used by this calculator. */
+	public AoConfig mode() {
+		return mode;
+	}
+
+	/** Sets the counters that record which calculation each quad uses, or null to not count. */
+	public void stats(@Nullable ChunkBuildStats stats) {
+		this.stats = stats;
+	}
+
 	/** call at start of each new block. */
 	public void clear() {
 		completionFlags = 0;
 	}
 
 	public void compute(MutableQuadViewImpl quad, boolean isVanilla) {
-		final AoConfig config = Indium.AMBIENT_OCCLUSION_MODE;
-
-		switch (config) {
+		switch (mode) {
 		case VANILLA:
 			// prevent NPE in error case of failed reflection for vanilla calculator access
 			if (vanillaCalc == null) {
@@ -134,6 +151,7 @@ public class AoCalculator {
 	}
 
 	private void calcVanilla(MutableQuadViewImpl quad) {
+		if (stats != null) stats.aoVanilla++;
 		calcVanilla(quad, ao, light);
 	}
 
@@ -147,7 +165,12 @@ public class AoCalculator {
 	private void calcVanilla(MutableQuadViewImpl quad, float[] aoDest, int[] lightDest) {
 		vanillaAoControlBits.clear();
 		final Direction lightFace = quad.lightFace();
-		quad.toVanilla(vertexData, 0);
+		int[] vertexData = quad.vanillaVertexData();
+
+		if (vertexData == null) {
+			vertexData = this.vertexData;
+			quad.toVanilla(vertexData, 0);
+		}
 
 		VanillaAoHelper.getQuadDimensions(blockInfo.blockView, blockInfo.blockState, blockInfo.blockPos, vertexData, lightFace, vanillaAoData, vanillaAoControlBits);
 		vanillaCalc.indium$apply(blockInfo.blockView, blockInfo.blockState, blockInfo.blockPos, lightFace, vanillaAoData, vanillaAoControlBits, quad.hasShade());
@@ -157,6 +180,7 @@ public class AoCalculator {
 	}
 
 	private void calcFastVanilla(MutableQuadViewImpl quad) {
+		if (stats != null) stats.aoFastVanilla++;
 		int flags = quad.geometryFlags();
 
 		// force to block face if shape is full cube - matches vanilla logic
@@ -172,6 +196,7 @@ public class AoCalculator {
 	}
 
 	private void calcEnhanced(MutableQuadViewImpl quad) {
+		if (stats != null) stats.aoEnhanced++;
 		switch (quad.geometryFlags()) {
 		case AXIS_ALIGNED_FLAG | CUBIC_FLAG | LIGHT_FACE_FLAG:
 		case AXIS_ALIGNED_FLAG | LIGHT_FACE_FLAG:
@@ -46,6 +46,11 @@ public abstract class ColorHelper {
 
 	/** Multiplies three lowest components by shade. High byte (usually alpha) unchanged. */
 	public static int multiplyRGB(int color, float shade) {
+		// Full brightness is common for unoccluded faces, and multiplying by it would give the same color
+		if (shade == 1.0f) {
+			return color;
+		}
+
 		final int alpha = ((color >>> 24) & 0xFF);
 		final int red = (int) (((color >>> 16) & 0xFF) * shade);
 		final int green = (int) (((color >>> 8) & 0xFF) * shade);
@@ -0,0 +1,278 @@
+package link.infra.indium.renderer.mesh;
+
+import static link.infra.indium.renderer.mesh.EncodingFormat.HEADER_STRIDE;
+import static link.infra.indium.renderer.mesh.EncodingFormat.TOTAL_STRIDE;
+import static link.infra.indium.renderer.mesh.EncodingFormat.VERTEX_COLOR;
+import static link.infra.indium.renderer.mesh.EncodingFormat.VERTEX_LIGHTMAP;
+import static link.infra.indium.renderer.mesh.EncodingFormat.VERTEX_NORMAL;
+import static link.infra.indium.renderer.mesh.EncodingFormat.VERTEX_STRIDE;
+import static link.infra.indium.renderer.mesh.EncodingFormat.VERTEX_U;
+import static link.infra.indium.renderer.mesh.EncodingFormat.VERTEX_X;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadView;
+import net.minecraft.client.texture.Sprite;
+
+/**
+ * Implementation of {@link Mesh} that stores quads in a variable-length, losslessly compressed form.
+ * Used instead of {@link MeshImpl} when {@code compact-meshes} is enabled.
+ *
+ * <p>Each quad is stored as the usual header, a flags word, and then:
+ * <ul>
+ * <li>positions as 16-bit fixed point with 12 fractional bits, or as floats if any coordinate isn't exactly representable;</li>
+ * <li>UVs as unsigned 16-bit fixed point with 16 fractional bits, or as floats if any coordinate isn't exactly representable;</li>
+ * <li>color, lightmap and normal as a single word when all four vertices share it, otherwise one word per vertex.</li>
+ * </ul>
+ * Static model quads usually sit on the 1/16 grid and use UVs on power-of-two atlas pixel boundaries, so most
+ * quads take half the space of {@link EncodingFormat#TOTAL_STRIDE}. Quads are decoded back into the regular
+ * encoding before use, so nothing else needs to know about this format. Output decodes the whole mesh into a
+ * scratch array first, so that render contexts still receive it through {@link MutableQuadViewImpl#emitEncoded}.
+ */
+public class CompactMeshImpl implements InternableMesh {
+	private static final int UNIFORM_COLOR = 1;
+	private static final int UNIFORM_LIGHTMAP = 2;
+	private static final int UNIFORM_NORMAL = 4;
+	private static final int FLOAT_POSITIONS = 8;
+	private static final int FLOAT_UVS = 16;
+
+	private static final float POSITION_SCALE = 4096f;
+	private static final float UV_SCALE = 65536f;
+	private static final int NOT_EXACT = Integer.MIN_VALUE;
+
+	/** Used to satisfy external calls to {@link #forEach(Consumer)}. */
+	private final ThreadLocal<QuadViewImpl> cursorPool = ThreadLocal.withInitial(() -> {
+		QuadViewImpl cursor = new QuadViewImpl();
+		cursor.data = new int[TOTAL_STRIDE];
+		return cursor;
+	});
+
+	final int[] data;
+	private final int quadCount;
+	/** Sprite of each quad by quad index, or null if no sprites were known when the mesh was built. */
+	@Nullable
+	final Sprite[] sprites;
+	CompactMeshImpl(int[] data, @Nullable Sprite[] sprites, int quadCount) {
+		this.data = data;
+		this.sprites = sprites;
+		this.quadCount = quadCount;
+	}
+
+	/**
+	 * Compresses the first {@code length} ints of regular quad encoding into the format used by this class.
+	 */
+	static int[] encode(int[] source, int length) {
+		final IntArrayList out = new IntArrayList(length / 2);
+
+		for (int index = 0; index < length; index += TOTAL_STRIDE) {
+			encodeQuad(source, index, out);
+		}
+
+		return out.toIntArray();
+	}
+
+	private static void encodeQuad(int[] source, int base, IntArrayList out) {
+		for (int i = 0; i < HEADER_STRIDE; i++) {
+			out.add(source[base + i]);
+		}
+
+		final int flagsIndex = out.size();
+		out.add(0);
+		int flags = 0;
+
+		if (!packShorts(source, base + VERTEX_X, 3, POSITION_SCALE, Short.MIN_VALUE, Short.MAX_VALUE, out)) {
+			flags |= FLOAT_POSITIONS;
+			copyComponents(source, base + VERTEX_X, 3, out);
+		}
+
+		if (!packShorts(source, base + VERTEX_U, 2, UV_SCALE, 0, 0xFFFF, out)) {
+			flags |= FLOAT_UVS;
+			copyComponents(source, base + VERTEX_U, 2, out);
+		}
+
+		flags |= packAttribute(source, base + VERTEX_COLOR, UNIFORM_COLOR, out);
+		flags |= packAttribute(source, base + VERTEX_LIGHTMAP, UNIFORM_LIGHTMAP, out);
+		flags |= packAttribute(source, base + VERTEX_NORMAL, UNIFORM_NORMAL, out);
+		out.set(flagsIndex, flags);
+	}
+
+	/**
+	 * Appends {@code count} consecutive components of every vertex as fixed point shorts, two per int.
+	 * Appends nothing and returns false if any component can't be represented exactly.
+	 */
+	private static boolean packShorts(int[] source, int start, int count, float scale, int min, int max, IntArrayList out) {
+		final int[] values = new int[4 * count];
+
+		for (int i = 0; i < 4; i++) {
+			for (int j = 0; j < count; j++) {
+				final int value = quantize(source[start + i * VERTEX_STRIDE + j], scale, min, max);
+
+				if (value == NOT_EXACT) {
+					return false;
+				}
+
+				values[i * count + j] = value;
+			}
+		}
+
+		for (int i = 0; i < values.length; i += 2) {
+			out.add((values[i] & 0xFFFF) | (values[i + 1] << 16));
+		}
+
+		return true;
+	}
+
+	private static int quantize(int bits, float scale, int min, int max) {
+		final float scaled = Float.intBitsToFloat(bits) * scale;
+		final int value = (int) scaled;
+
+		// The round trip check rejects NaN, negative zero and values lost to underflow.
+		if (value != scaled || value < min || value > max || Float.floatToRawIntBits(value / scale) != bits) {
+			return NOT_EXACT;
+		}
+
+		return value;
+	}
+
+	private static void copyComponents(int[] source, int start, int count, IntArrayList out) {
+		for (int i = 0; i < 4; i++) {
+			for (int j = 0; j < count; j++) {
+				out.add(source[start + i * VERTEX_STRIDE + j]);
+			}
+		}
+	}
+
+	private static int packAttribute(int[] source, int start, int uniformFlag, IntArrayList out) {
+		final int first = source[start];
+
+		if (source[start + VERTEX_STRIDE] == first && source[start + 2 * VERTEX_STRIDE] == first && source[start + 3 * VERTEX_STRIDE] == first) {
+			out.add(first);
+			return uniformFlag;
+		}
+
+		for (int i = 0; i < 4; i++) {
+			out.add(source[start + i * VERTEX_STRIDE]);
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Decodes the compressed quad at {@code index} into regular encoding in the target array.
+	 * @return the index of the next compressed quad
+	 */
+	static int decode(int[] source, int index, int[] target, int targetIndex) {
+		System.arraycopy(source, index, target, targetIndex, HEADER_STRIDE);
+		index += HEADER_STRIDE;
+		final int flags = source[index++];
+
+		if ((flags & FLOAT_POSITIONS) == 0) {
+			index = unpackShorts(source, index, target, targetIndex + VERTEX_X, 3, POSITION_SCALE, true);
+		} else {
+			index = unpackComponents(source, index, target, targetIndex + VERTEX_X, 3);
+		}
+
+		if ((flags & FLOAT_UVS) == 0) {
+			index = unpackShorts(source, index, target, targetIndex + VERTEX_U, 2, UV_SCALE, false);
+		} else {
+			index = unpackComponents(source, index, target, targetIndex + VERTEX_U, 2);
+		}
+
+		index = unpackAttribute(source, index, target, targetIndex + VERTEX_COLOR, (flags & UNIFORM_COLOR) != 0);
+		index = unpackAttribute(source, index, target, targetIndex + VERTEX_LIGHTMAP, (flags & UNIFORM_LIGHTMAP) != 0);
+		return unpackAttribute(source, index, target, targetIndex + VERTEX_NORMAL, (flags & UNIFORM_NORMAL) != 0);
+	}
+
+	private static int unpackShorts(int[] source, int index, int[] target, int start, int count, float scale, boolean signed) {
+		for (int k = 0; k < 2 * count; k++) {
+			final int packed = source[index++];
+			final int low = signed ? (short) packed : packed & 0xFFFF;
+			final int high = signed ? packed >> 16 : packed >>> 16;
+			setComponent(target, start, count, 2 * k, low / scale);
+			setComponent(target, start, count, 2 * k + 1, high / scale);
+		}
+
+		return index;
+	}
+
+	private static void setComponent(int[] target, int start, int count, int component, float value) {
+		target[start + (component / count) * VERTEX_STRIDE + component % count] = Float.floatToRawIntBits(value);
+	}
+
+	private static int unpackComponents(int[] source, int index, int[] target, int start, int count) {
+		for (int i = 0; i < 4; i++) {
+			System.arraycopy(source, index, target, start + i * VERTEX_STRIDE, count);
+			index += count;
+		}
+
+		return index;
+	}
+
+	private static int unpackAttribute(int[] source, int index, int[] target, int start, boolean uniform) {
+		for (int i = 0; i < 4; i++) {
+			target[start + i * VERTEX_STRIDE] = source[uniform ? index : index + i];
+		}
+
+		return index + (uniform ? 1 : 4);
+	}
+
+	@Override
+	public void forEach(Consumer<QuadView> consumer) {
+		final QuadViewImpl cursor = cursorPool.get();
+		final int limit = data.length;
+		int index = 0;
+
+		while (index < limit) {
+			index = decode(data, index, cursor.data, cursor.baseIndex);
+			cursor.load();
+			consumer.accept(cursor);
+		}
+	}
+
+	@Override
+	public void outputTo(QuadEmitter emitter) {
+		MutableQuadViewImpl e = (MutableQuadViewImpl) emitter;
+		final int length = quadCount * TOTAL_STRIDE;
+		final int[] scratch = MeshScratch.take(length);
+
+		try {
+			int index = 0;
+
+			for (int targetIndex = 0; targetIndex < length; targetIndex += TOTAL_STRIDE) {
+				index = decode(data, index, scratch, targetIndex);
+			}
+
+			e.emitEncoded(scratch, sprites, 0, length);
+		} finally {
+			MeshScratch.release(scratch);
+		}
+
+		e.clear();
+	}
+
+	@Override
+	public boolean contentEquals(int[] data, @Nullable Sprite[] sprites, int length) {
+		if (length != quadCount * TOTAL_STRIDE || !Arrays.equals(this.sprites, sprites)) {
+			return false;
+		}
+
+		final int[] decoded = new int[TOTAL_STRIDE];
+		int index = 0;
+
+		for (int targetIndex = 0; targetIndex < length; targetIndex += TOTAL_STRIDE) {
+			index = decode(this.data, index, decoded, 0);
+
+			if (!Arrays.equals(decoded, 0, TOTAL_STRIDE, data, targetIndex, targetIndex + TOTAL_STRIDE)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,104 @@
+package link.infra.indium.renderer.mesh;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadView;
+import net.minecraft.client.texture.Sprite;
+
+/**
+ * Implementation of {@link Mesh} that keeps its encoded data in a direct buffer, outside of the
+ * garbage-collected heap. Used instead of {@link MeshImpl} when {@code off-heap-meshes} is enabled.
+ *
+ * <p>The buffer uses the same {@link EncodingFormat} layout as {@link MeshImpl}. Quads are bulk-copied
+ * into the cursor or a scratch array before use, so quad views still read from their usual backing array.
+ *
+ * <p>Most meshes are only a few quads, so their buffers are slices of larger shared slabs instead of
+ * separate direct allocations. A slab is freed once all meshes in it are unreachable.
+ */
+public class DirectMeshImpl implements InternableMesh {
+	/** Size of the shared slabs in ints. Meshes larger than a quarter of this get a buffer of their own. */
+	private static final int SLAB_SIZE = 256 * 1024;
+
+	// Guarded by the class lock
+	private static IntBuffer slab;
+	private static int slabPosition;
+
+	/** Used to satisfy external calls to {@link #forEach(Consumer)}. */
+	private final ThreadLocal<QuadViewImpl> cursorPool = ThreadLocal.withInitial(() -> {
+		QuadViewImpl cursor = new QuadViewImpl();
+		cursor.data = new int[EncodingFormat.TOTAL_STRIDE];
+		return cursor;
+	});
+
+	/** Only accessed with absolute get operations, so it can be read from multiple threads. */
+	final IntBuffer data;
+	/** Sprite of each quad by quad index, or null if no sprites were known when the mesh was built. */
+	@Nullable
+	final Sprite[] sprites;
+	DirectMeshImpl(int[] source, @Nullable Sprite[] sprites, int length) {
+		this.sprites = sprites;
+		data = allocate(length);
+		data.put(0, source, 0, length);
+	}
+
+	private static synchronized IntBuffer allocate(int length) {
+		if (length > SLAB_SIZE / 4) {
+			return allocateDirect(length);
+		}
+
+		if (slab == null || SLAB_SIZE - slabPosition < length) {
+			slab = allocateDirect(SLAB_SIZE);
+			slabPosition = 0;
+		}
+
+		final IntBuffer slice = slab.slice(slabPosition, length);
+		slabPosition += length;
+		return slice;
+	}
+
+	private static IntBuffer allocateDirect(int length) {
+		return ByteBuffer.allocateDirect(length * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+	}
+
+	@Override
+	public void forEach(Consumer<QuadView> consumer) {
+		final QuadViewImpl cursor = cursorPool.get();
+		final int limit = data.limit();
+		int index = 0;
+
+		while (index < limit) {
+			cursor.load(data, index);
+			consumer.accept(cursor);
+			index += EncodingFormat.TOTAL_STRIDE;
+		}
+	}
+
+	@Override
+	public void outputTo(QuadEmitter emitter) {
+		MutableQuadViewImpl e = (MutableQuadViewImpl) emitter;
+		final int length = data.limit();
+		final int[] scratch = MeshScratch.take(length);
+
+		try {
+			data.get(0, scratch, 0, length);
+			e.emitEncoded(scratch, sprites, 0, length);
+		} finally {
+			MeshScratch.release(scratch);
+		}
+
+		e.clear();
+	}
+
+	@Override
+	public boolean contentEquals(int[] data, @Nullable Sprite[] sprites, int length) {
+		return this.data.equals(IntBuffer.wrap(data, 0, length)) && Arrays.equals(this.sprites, sprites);
+	}
+}
@@ -36,7 +36,7 @@ import net.minecraft.util.math.MathHelper;
 public abstract class EncodingFormat {
 	private EncodingFormat() { }
 
-	static final int HEADER_BITS = 0;
+	public static final int HEADER_BITS = 0;
 	static final int HEADER_FACE_NORMAL = 1;
 	static final int HEADER_COLOR_INDEX = 2;
 	static final int HEADER_TAG = 3;
@@ -100,11 +100,19 @@ public abstract class EncodingFormat {
 	private static final int MATERIAL_BIT_COUNT = Integer.bitCount(MATERIAL_MASK);
 	private static final int MATERIAL_INVERSE_MASK = ~(MATERIAL_MASK << MATERIAL_SHIFT);
 
+	/** Header fields computed from vertex positions by {@link QuadViewImpl#computeGeometry()}. */
+	private static final int GEOMETRY_FIELDS_MASK = ~LIGHT_INVERSE_MASK | ~NORMAL_FACE_INVERSE_MASK | ~GEOMETRY_INVERSE_MASK;
+
 	static {
 		Preconditions.checkArgument(MATERIAL_SHIFT + MATERIAL_BIT_COUNT <= 32, "Indium header encoding bit count (%s) exceeds integer bit length)", TOTAL_STRIDE);
 	}
 
-	static Direction cullFace(int bits) {
+	/** Replaces the light face, normal face and geometry flags in {@code bits} with those in {@code sourceBits}. */
+	static int geometryFields(int bits, int sourceBits) {
+		return (bits & ~GEOMETRY_FIELDS_MASK) | (sourceBits & GEOMETRY_FIELDS_MASK);
+	}
+
+	public static Direction cullFace(int bits) {
 		return ModelHelper.faceFromIndex((bits >>> CULL_SHIFT) & DIRECTION_MASK);
 	}
 
@@ -145,7 +153,7 @@ public abstract class EncodingFormat {
 		return (bits & GEOMETRY_INVERSE_MASK) | ((geometryFlags & GEOMETRY_MASK) << GEOMETRY_SHIFT);
 	}
 
-	static RenderMaterialImpl material(int bits) {
+	public static RenderMaterialImpl material(int bits) {
 		return RenderMaterialImpl.byIndex((bits >>> MATERIAL_SHIFT) & MATERIAL_MASK);
 	}
 
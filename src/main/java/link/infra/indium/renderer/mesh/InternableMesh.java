@@ -0,0 +1,18 @@
+package link.infra.indium.renderer.mesh;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.minecraft.client.texture.Sprite;
+
+/**
+ * Mesh that can be compared with the encoded data it was built from, so that {@link MeshBuilderImpl} can find
+ * an existing mesh with the same content before building another one.
+ */
+interface InternableMesh extends Mesh {
+	/**
+	 * Whether this mesh holds exactly the first {@code length} ints of the given regular quad encoding and
+	 * the given sprites, as passed to {@link MeshBuilderImpl#createMesh}.
+	 */
+	boolean contentEquals(int[] data, @Nullable Sprite[] sprites, int length);
+}
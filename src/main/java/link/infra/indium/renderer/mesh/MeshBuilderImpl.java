@@ -16,9 +16,18 @@
 
 package link.infra.indium.renderer.mesh;
 
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.google.common.collect.MapMaker;
+
+import link.infra.indium.Indium;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.renderer.v1.mesh.MeshBuilder;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.minecraft.client.texture.Sprite;
 
 /**
  * Our implementation of {@link MeshBuilder}, used for static mesh creation and baking.
@@ -28,9 +37,19 @@ import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
  * The one interesting bit is in {@link Maker#emitDirectly()}.
  */
 public class MeshBuilderImpl implements MeshBuilder {
+	/**
+	 * Built meshes by content hash, used to share meshes with identical content when {@code deduplicate-meshes}
+	 * is enabled. Values are weak so meshes from previous resource reloads can still be collected. Meshes whose
+	 * hashes collide replace each other, so only the most recent one is shared.
+	 */
+	private static final ConcurrentMap<Integer, InternableMesh> MESHES = new MapMaker().weakValues().makeMap();
+
 	private int[] data = new int[256];
 	private int index = 0;
 	private int limit = data.length;
+	/** Sprite of each emitted quad by quad index, if the emitter knew it. */
+	private Sprite[] sprites = new Sprite[limit / EncodingFormat.TOTAL_STRIDE];
+	private boolean hasSprites = false;
 	private final Maker maker = new Maker();
 
 	public MeshBuilderImpl() {
@@ -47,6 +66,7 @@ public class MeshBuilderImpl implements MeshBuilder {
 			System.arraycopy(data, 0, bigger, 0, index);
 			data = bigger;
 			maker.data = data;
+			sprites = Arrays.copyOf(sprites, limit / EncodingFormat.TOTAL_STRIDE);
 		}
 	}
 
@@ -58,24 +78,79 @@ public class MeshBuilderImpl implements MeshBuilder {
 
 	@Override
 	public Mesh build() {
-		final int[] packed = new int[index];
-		System.arraycopy(data, 0, packed, 0, index);
+		final int quadCount = index / EncodingFormat.TOTAL_STRIDE;
+		final Mesh mesh = createMesh(data, hasSprites ? Arrays.copyOf(sprites, quadCount) : null, index);
+		Arrays.fill(sprites, 0, quadCount, null);
+		hasSprites = false;
 		index = 0;
 		maker.baseIndex = index;
 		maker.clear();
-		return new MeshImpl(packed);
+		return mesh;
+	}
+
+	/**
+	 * Copies the first {@code length} ints of encoded quad data and the sprites of those quads into a new mesh,
+	 * using the representation selected in the Indium config. If mesh deduplication is
+	 * enabled, a previously built mesh with identical content is returned instead.
+	 */
+	protected Mesh createMesh(int[] data, @Nullable Sprite[] sprites, int length) {
+		if (!Indium.DEDUPLICATE_MESHES) {
+			return newMesh(data, sprites, length);
+		}
+
+		// Compared against the encoded data before building, so duplicates don't allocate a mesh
+		final Integer hash = contentHash(data, sprites, length);
+		final InternableMesh existing = MESHES.get(hash);
+
+		if (existing != null && existing.contentEquals(data, sprites, length)) {
+			return existing;
+		}
+
+		final InternableMesh mesh = newMesh(data, sprites, length);
+		MESHES.put(hash, mesh);
+		return mesh;
+	}
+
+	private static int contentHash(int[] data, @Nullable Sprite[] sprites, int length) {
+		int hash = 1;
+
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + data[i];
+		}
+
+		return 31 * hash + Arrays.hashCode(sprites);
+	}
+
+	private static InternableMesh newMesh(int[] data, @Nullable Sprite[] sprites, int length) {
+		final InternableMesh mesh;
+
+		if (Indium.COMPACT_MESHES) {
+			mesh = new CompactMeshImpl(CompactMeshImpl.encode(data, length), sprites, length / EncodingFormat.TOTAL_STRIDE);
+		} else if (Indium.OFF_HEAP_MESHES) {
+			mesh = new DirectMeshImpl(data, sprites, length);
+		} else {
+			final int[] packed = new int[length];
+			System.arraycopy(data, 0, packed, 0, length);
+			mesh = new MeshImpl(packed, sprites);
+		}
+
+		return mesh;
 	}
 
 	/**
 	 * Our base classes are used differently so we define final
 	 * encoding steps in subtypes. This will be a static mesh used
 	 * at render time so we want to capture all geometry now and
-	 * apply non-location-dependent lighting.
+	 * apply non-location-dependent lighting. Sprites set by
+	 * {@link #spriteBake} are kept so that rendering doesn't have to look them up.
 	 */
 	private class Maker extends MutableQuadViewImpl {
 		@Override
 		public void emitDirectly() {
 			computeGeometry();
+			final Sprite sprite = cachedSprite();
+			sprites[index / EncodingFormat.TOTAL_STRIDE] = sprite;
+			hasSprites |= sprite != null;
 			index += EncodingFormat.TOTAL_STRIDE;
 			ensureCapacity(EncodingFormat.TOTAL_STRIDE);
 			baseIndex = index;
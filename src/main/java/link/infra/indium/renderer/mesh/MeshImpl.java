@@ -16,24 +16,31 @@
 
 package link.infra.indium.renderer.mesh;
 
+import java.util.Arrays;
 import java.util.function.Consumer;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadView;
+import net.minecraft.client.texture.Sprite;
 
 /**
  * Implementation of {@link Mesh}.
  * The way we encode meshes makes it very simple.
  */
-public class MeshImpl implements Mesh {
+public class MeshImpl implements InternableMesh {
 	/** Used to satisfy external calls to {@link #forEach(Consumer)}. */
 	private final ThreadLocal<QuadViewImpl> cursorPool = ThreadLocal.withInitial(QuadViewImpl::new);
 
 	final int[] data;
-
-	MeshImpl(int[] data) {
+	/** Sprite of each quad by quad index, or null if no sprites were known when the mesh was built. */
+	@Nullable
+	final Sprite[] sprites;
+	MeshImpl(int[] data, @Nullable Sprite[] sprites) {
 		this.data = data;
+		this.sprites = sprites;
 	}
 
 	@Override
@@ -62,17 +69,12 @@ public class MeshImpl implements Mesh {
 	@Override
 	public void outputTo(QuadEmitter emitter) {
 		MutableQuadViewImpl e = (MutableQuadViewImpl) emitter;
-		final int[] data = this.data;
-		final int limit = data.length;
-		int index = 0;
-
-		while (index < limit) {
-			System.arraycopy(data, index, e.data, e.baseIndex, EncodingFormat.TOTAL_STRIDE);
-			e.load();
-			e.emitDirectly();
-			index += EncodingFormat.TOTAL_STRIDE;
-		}
-
+		e.emitEncoded(data, sprites, 0, data.length);
 		e.clear();
 	}
+
+	@Override
+	public boolean contentEquals(int[] data, @Nullable Sprite[] sprites, int length) {
+		return Arrays.equals(this.data, 0, this.data.length, data, 0, length) && Arrays.equals(this.sprites, sprites);
+	}
 }
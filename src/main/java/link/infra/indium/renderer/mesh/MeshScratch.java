@@ -0,0 +1,32 @@
+package link.infra.indium.renderer.mesh;
+
+/**
+ * Per-thread scratch array that meshes not stored as a plain {@code int[]} decode into, so that they can be output
+ * through {@link MutableQuadViewImpl#emitEncoded} like {@link MeshImpl}.
+ */
+final class MeshScratch {
+	private static final ThreadLocal<int[]> SCRATCH = new ThreadLocal<>();
+
+	private MeshScratch() { }
+
+	/**
+	 * Takes this thread's scratch array, grown to at least the given length. It must be given back with
+	 * {@link #release(int[])}. Until then, meshes output from the same thread (by a quad transform, for example)
+	 * get a new array instead of overwriting this one.
+	 */
+	static int[] take(int length) {
+		int[] scratch = SCRATCH.get();
+
+		if (scratch == null || scratch.length < length) {
+			scratch = new int[Math.max(length, EncodingFormat.TOTAL_STRIDE * 64)];
+		} else {
+			SCRATCH.set(null);
+		}
+
+		return scratch;
+	}
+
+	static void release(int[] scratch) {
+		SCRATCH.set(scratch);
+	}
+}
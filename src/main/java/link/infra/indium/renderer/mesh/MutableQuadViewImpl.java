@@ -56,6 +56,12 @@ import net.minecraft.util.math.Direction;
 public abstract class MutableQuadViewImpl extends QuadViewImpl implements QuadEmitter {
 	@Nullable
 	private Sprite cachedSprite;
+	/**
+	 * Vertex data of the baked quad this quad was loaded from, as long as its positions haven't changed since.
+	 * Positions are all that vanilla AO reads, so it can use this array instead of a copy made with {@link #toVanilla}.
+	 */
+	@Nullable
+	private int[] vanillaVertexData;
 	/** This field is only used during terrain rendering. */
 	private ModelQuadOrientation orientation = ModelQuadOrientation.NORMAL;
 
@@ -68,6 +74,15 @@ public abstract class MutableQuadViewImpl extends QuadViewImpl implements QuadEm
 		cachedSprite = sprite;
 	}
 
+	/**
+	 * Returns the vertex data of the baked quad this quad was loaded from if the positions in it still match
+	 * this quad's, or null otherwise. Other attributes may differ. The returned array must not be modified.
+	 */
+	@Nullable
+	public int[] vanillaVertexData() {
+		return vanillaVertexData;
+	}
+
 	public ModelQuadOrientation orientation() {
 		return orientation;
 	}
@@ -87,12 +102,34 @@ public abstract class MutableQuadViewImpl extends QuadViewImpl implements QuadEm
 		cullFace(null);
 		material(IndiumRenderer.MATERIAL_STANDARD);
 		cachedSprite(null);
+		vanillaVertexData = null;
 	}
 
 	@Override
 	public void load() {
 		super.load();
 		cachedSprite(null);
+		vanillaVertexData = null;
+	}
+
+	/**
+	 * Loads an encoded quad with valid computed geometry, such as one written by {@link #copyEncoded(int[], int)}.
+	 */
+	public final void loadEncoded(int[] source, int sourceIndex) {
+		System.arraycopy(source, sourceIndex, data, baseIndex, EncodingFormat.TOTAL_STRIDE);
+		load();
+	}
+
+	/**
+	 * Loads a quad from encoded mesh data along with its sprite, if known.
+	 * See {@link #emitEncoded(int[], Sprite[], int, int)}.
+	 */
+	public final void loadEncoded(int[] source, @Nullable Sprite[] sprites, int sourceIndex) {
+		loadEncoded(source, sourceIndex);
+
+		if (sprites != null) {
+			cachedSprite(sprites[sourceIndex / EncodingFormat.TOTAL_STRIDE]);
+		}
 	}
 
 	@Override
@@ -102,6 +139,7 @@ public abstract class MutableQuadViewImpl extends QuadViewImpl implements QuadEm
 		data[index + 1] = Float.floatToRawIntBits(y);
 		data[index + 2] = Float.floatToRawIntBits(z);
 		isGeometryInvalid = true;
+		vanillaVertexData = null;
 		return this;
 	}
 
@@ -210,8 +248,10 @@ public abstract class MutableQuadViewImpl extends QuadViewImpl implements QuadEm
 
 		if (quad instanceof MutableQuadViewImpl mutableQuad) {
 			cachedSprite(mutableQuad.cachedSprite());
+			vanillaVertexData = mutableQuad.vanillaVertexData();
 		} else {
 			cachedSprite(null);
+			vanillaVertexData = null;
 		}
 
 		return this;
@@ -222,6 +262,7 @@ public abstract class MutableQuadViewImpl extends QuadViewImpl implements QuadEm
 		System.arraycopy(quadData, startIndex, data, baseIndex + HEADER_STRIDE, VANILLA_QUAD_STRIDE);
 		isGeometryInvalid = true;
 		cachedSprite(null);
+		vanillaVertexData = null;
 
 		int colorIndex = baseIndex + VERTEX_COLOR;
 
@@ -247,9 +288,30 @@ public abstract class MutableQuadViewImpl extends QuadViewImpl implements QuadEm
 		material(material);
 		tag(0);
 		cachedSprite(quad.getSprite());
+		vanillaVertexData = quad.getVertexData();
+
+		if (VanillaQuadGeometryCache.ENABLED) {
+			VanillaQuadGeometryCache.apply(quad, this);
+		}
+
 		return this;
 	}
 
+	/**
+	 * Emits every quad in encoded mesh data, as built by {@link MeshBuilderImpl}, without clearing afterwards.
+	 * By default each quad is loaded and passed to {@link #emitDirectly()}; render contexts may override
+	 * this to process a whole mesh in one pass.
+	 *
+	 * @param sprites the sprite of each quad in {@code source} by quad index, with null entries for unknown
+	 * sprites, or null if no sprites are known
+	 */
+	public void emitEncoded(int[] source, @Nullable Sprite[] sprites, int start, int end) {
+		for (int index = start; index < end; index += EncodingFormat.TOTAL_STRIDE) {
+			loadEncoded(source, sprites, index);
+			emitDirectly();
+		}
+	}
+
 	/**
 	 * Emit the quad without clearing the underlying data.
 	 * Geometry is not guaranteed to be valid when called, but can be computed by calling {@link #computeGeometry()}.
@@ -32,6 +32,8 @@ import static link.infra.indium.renderer.mesh.EncodingFormat.VERTEX_X;
 import static link.infra.indium.renderer.mesh.EncodingFormat.VERTEX_Y;
 import static link.infra.indium.renderer.mesh.EncodingFormat.VERTEX_Z;
 
+import java.nio.IntBuffer;
+
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Vector2f;
@@ -72,6 +74,14 @@ public class QuadViewImpl implements QuadView {
 		NormalHelper.unpackNormal(packedFaceNormal(), faceNormal);
 	}
 
+	/**
+	 * Copies an encoded quad from a buffer into this quad's data and decodes it like {@link #load()}.
+	 */
+	void load(IntBuffer source, int sourceIndex) {
+		source.get(sourceIndex, data, baseIndex, EncodingFormat.TOTAL_STRIDE);
+		load();
+	}
+
 	protected void computeGeometry() {
 		if (isGeometryInvalid) {
 			isGeometryInvalid = false;
@@ -266,6 +276,15 @@ public class QuadViewImpl implements QuadView {
 		return data[baseIndex + HEADER_TAG];
 	}
 
+	/**
+	 * Copies the encoded quad, including computed geometry, to the target array.
+	 * The copy can be restored with {@link MutableQuadViewImpl#loadEncoded(int[], int)}.
+	 */
+	public final void copyEncoded(int[] target, int targetIndex) {
+		computeGeometry();
+		System.arraycopy(data, baseIndex, target, targetIndex, EncodingFormat.TOTAL_STRIDE);
+	}
+
 	@Override
 	public final void toVanilla(int[] target, int targetIndex) {
 		System.arraycopy(data, baseIndex + HEADER_STRIDE, target, targetIndex, QUAD_STRIDE);
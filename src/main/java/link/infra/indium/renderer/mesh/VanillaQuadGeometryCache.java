@@ -0,0 +1,68 @@
+package link.infra.indium.renderer.mesh;
+
+import static link.infra.indium.renderer.mesh.EncodingFormat.HEADER_BITS;
+import static link.infra.indium.renderer.mesh.EncodingFormat.HEADER_FACE_NORMAL;
+
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+
+import link.infra.indium.Indium;
+import net.minecraft.client.render.model.BakedQuad;
+
+/**
+ * Remembers the computed geometry of quads loaded from {@link BakedQuad}s, so that each baked quad is
+ * classified once instead of every time a block using it is tessellated. Enabled by {@code cache-vanilla-quad-geometry}.
+ *
+ * <p>Keys are weak and compared by identity, so quads of replaced models are dropped after a resource reload.
+ */
+public final class VanillaQuadGeometryCache {
+	public static final boolean ENABLED = Indium.CACHE_VANILLA_QUAD_GEOMETRY;
+
+	private static final ConcurrentMap<BakedQuad, Geometry> CACHE = new MapMaker().weakKeys().makeMap();
+
+	private VanillaQuadGeometryCache() {
+	}
+
+	public static void clear() {
+		CACHE.clear();
+	}
+
+	/**
+	 * Sets the geometry of a quad that was just loaded from the given baked quad,
+	 * computing and caching it if this baked quad wasn't seen before.
+	 */
+	static void apply(BakedQuad bakedQuad, MutableQuadViewImpl quad) {
+		final Geometry geometry = CACHE.get(bakedQuad);
+
+		if (geometry == null) {
+			quad.computeGeometry();
+			CACHE.put(bakedQuad, new Geometry(quad));
+		} else {
+			geometry.applyTo(quad);
+		}
+	}
+
+	private static final class Geometry {
+		private final float normalX;
+		private final float normalY;
+		private final float normalZ;
+		private final int packedNormal;
+		private final int bits;
+
+		Geometry(QuadViewImpl quad) {
+			normalX = quad.faceNormal.x;
+			normalY = quad.faceNormal.y;
+			normalZ = quad.faceNormal.z;
+			packedNormal = quad.data[quad.baseIndex + HEADER_FACE_NORMAL];
+			bits = quad.data[quad.baseIndex + HEADER_BITS];
+		}
+
+		void applyTo(QuadViewImpl quad) {
+			quad.faceNormal.set(normalX, normalY, normalZ);
+			quad.data[quad.baseIndex + HEADER_FACE_NORMAL] = packedNormal;
+			quad.data[quad.baseIndex + HEADER_BITS] = EncodingFormat.geometryFields(quad.data[quad.baseIndex + HEADER_BITS], bits);
+			quad.isGeometryInvalid = false;
+		}
+	}
+}
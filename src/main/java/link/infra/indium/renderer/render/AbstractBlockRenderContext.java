@@ -16,10 +16,12 @@
 
 package link.infra.indium.renderer.render;
 
-import link.infra.indium.Indium;
+import java.util.function.Supplier;
+
 import link.infra.indium.renderer.aocalc.AoCalculator;
 import link.infra.indium.renderer.aocalc.AoConfig;
 import link.infra.indium.renderer.helper.ColorHelper;
+import link.infra.indium.renderer.material.RenderMaterialImpl;
 import link.infra.indium.renderer.mesh.EncodingFormat;
 import link.infra.indium.renderer.mesh.MutableQuadViewImpl;
 import me.jellysquid.mods.sodium.client.model.light.data.LightDataAccess;
@@ -31,12 +33,13 @@ import net.fabricmc.fabric.api.util.TriState;
 import net.fabricmc.fabric.impl.renderer.VanillaModelEncoder;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.render.LightmapTextureManager;
-import net.minecraft.client.render.RenderLayer;
 import net.minecraft.client.render.WorldRenderer;
 import net.minecraft.client.render.model.BakedModel;
 import net.minecraft.client.render.model.json.ModelTransformationMode;
+import net.minecraft.client.texture.Sprite;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.random.Random;
 import net.minecraft.world.BlockRenderView;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3f;
@@ -50,6 +53,9 @@ import static link.infra.indium.renderer.helper.GeometryHelper.LIGHT_FACE_FLAG;
 public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 	protected BlockRenderInfo blockInfo;
 	protected AoCalculator aoCalc;
+	/** Counters for chunk build profiling, or null if not profiling. */
+	@Nullable
+	protected ChunkBuildStats stats;
 
 	private final MutableQuadViewImpl editorQuad = new MutableQuadViewImpl() {
 		{
@@ -61,6 +67,11 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 		public void emitDirectly() {
 			renderQuad(this, false);
 		}
+
+		@Override
+		public void emitEncoded(int[] source, @Nullable Sprite[] sprites, int start, int end) {
+			renderEncoded(this, source, sprites, start, end);
+		}
 	};
 
 	private final MutableQuadViewImpl vanillaModelEditorQuad = new MutableQuadViewImpl() {
@@ -77,6 +88,9 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 
 	private final BakedModelConsumerImpl vanillaModelConsumer = new BakedModelConsumerImpl();
 
+	private final RecordedQuads.Recorder recorder = new RecordedQuads.Recorder();
+	private boolean recording = false;
+
 	protected abstract LightDataAccess getLightCache();
 
 	protected abstract void bufferQuad(MutableQuadViewImpl quad, Material material);
@@ -92,6 +106,18 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 		return vanillaModelEditorQuad;
 	}
 
+	/**
+	 * Emits the quads of a model without Fabric Rendering API support through the vanilla model emitter.
+	 */
+	public void emitVanillaModel(BakedModel model, @Nullable BlockState state, Supplier<Random> randomSupplier) {
+		onVanillaModel(model, state, randomSupplier);
+		VanillaModelEncoder.emitBlockQuads(model, state, randomSupplier, this, vanillaModelEditorQuad);
+	}
+
+	/** Called before the quads of a model without Fabric Rendering API support are emitted. */
+	protected void onVanillaModel(BakedModel model, @Nullable BlockState state, Supplier<Random> randomSupplier) {
+	}
+
 	@Override
 	public boolean isFaceCulled(@Nullable Direction face) {
 		return !blockInfo.shouldDrawFace(face);
@@ -113,22 +139,125 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 		}
 
 		if (isFaceCulled(quad.cullFace())) {
+			if (stats != null) stats.quadsCulled++;
 			return;
 		}
 
+		if (recording) {
+			recorder.record(quad, isVanilla);
+		}
+
+		processQuad(quad, isVanilla);
+	}
+
+	/** Colors, lights and buffers a quad that has already been transformed and passed the cull check. */
+	private void processQuad(MutableQuadViewImpl quad, boolean isVanilla) {
 		final RenderMaterial mat = quad.material();
 		final int colorIndex = mat.disableColorIndex() ? -1 : quad.colorIndex();
-		final TriState aoMode = mat.ambientOcclusion();
-		final boolean ao = blockInfo.useAo && (aoMode == TriState.TRUE || (aoMode == TriState.DEFAULT && blockInfo.defaultAo));
+		final boolean ao = useAo(mat);
 		final boolean emissive = mat.emissive();
-		final RenderLayer renderLayer = blockInfo.effectiveRenderLayer(mat.blendMode());
-		final Material sodiumMaterial = DefaultMaterials.forRenderLayer(renderLayer);
+		final Material sodiumMaterial = sodiumMaterial(mat);
 
 		colorizeQuad(quad, colorIndex);
 		shadeQuad(quad, isVanilla, ao, emissive);
 		bufferQuad(quad, sodiumMaterial);
 	}
 
+	/**
+	 * Renders all quads of encoded mesh data in order. When no transform is active, the cull face and material
+	 * can be read straight from the encoded header: culled quads are skipped before being loaded, and state
+	 * derived from the material is only recomputed when it differs from the previous quad.
+	 */
+	private void renderEncoded(MutableQuadViewImpl quad, int[] source, @Nullable Sprite[] sprites, int start, int end) {
+		if (hasTransform()) {
+			// Transforms can change the cull face and material, so every quad has to take the regular path
+			for (int index = start; index < end; index += EncodingFormat.TOTAL_STRIDE) {
+				quad.loadEncoded(source, sprites, index);
+				renderQuad(quad, false);
+			}
+
+			return;
+		}
+
+		RenderMaterialImpl lastMat = null;
+		boolean disableColorIndex = false;
+		boolean ao = false;
+		boolean emissive = false;
+		Material sodiumMaterial = null;
+
+		for (int index = start; index < end; index += EncodingFormat.TOTAL_STRIDE) {
+			final int bits = source[index + EncodingFormat.HEADER_BITS];
+
+			if (!blockInfo.shouldDrawFace(EncodingFormat.cullFace(bits))) {
+				if (stats != null) stats.quadsCulled++;
+				continue;
+			}
+
+			quad.loadEncoded(source, sprites, index);
+
+			if (recording) {
+				recorder.record(quad, false);
+			}
+
+			final RenderMaterialImpl mat = EncodingFormat.material(bits);
+
+			if (mat != lastMat) {
+				lastMat = mat;
+				disableColorIndex = mat.disableColorIndex();
+				ao = useAo(mat);
+				emissive = mat.emissive();
+				sodiumMaterial = sodiumMaterial(mat);
+			}
+
+			colorizeQuad(quad, disableColorIndex ? -1 : quad.colorIndex());
+			shadeQuad(quad, false, ao, emissive);
+			bufferQuad(quad, sodiumMaterial);
+		}
+	}
+
+	private boolean useAo(RenderMaterial mat) {
+		final TriState aoMode = mat.ambientOcclusion();
+		return blockInfo.useAo && (aoMode == TriState.TRUE || (aoMode == TriState.DEFAULT && blockInfo.defaultAo));
+	}
+
+	private Material sodiumMaterial(RenderMaterial mat) {
+		return DefaultMaterials.forRenderLayer(blockInfo.effectiveRenderLayer(mat.blendMode()));
+	}
+
+	/**
+	 * Starts recording all quads that are rendered from now on, after transforms and culling.
+	 * Must be followed by {@link #stopRecording()}.
+	 */
+	protected void startRecording() {
+		recorder.reset();
+		recording = true;
+	}
+
+	/** Returns the quads rendered since {@link #startRecording()}. */
+	protected RecordedQuads recordedQuads() {
+		return recorder.finish();
+	}
+
+	protected void stopRecording() {
+		recording = false;
+		recorder.reset();
+	}
+
+	/**
+	 * Renders previously recorded quads. Transforms and culling were already applied
+	 * when they were recorded, so only coloring, lighting and buffering are repeated.
+	 */
+	protected void replayQuads(RecordedQuads quads) {
+		final MutableQuadViewImpl quad = editorQuad;
+
+		for (int i = 0; i < quads.size(); i++) {
+			quads.load(i, quad);
+			processQuad(quad, quads.isVanilla(i));
+		}
+
+		quad.clear();
+	}
+
 	/** handles block color, common to all renders. */
 	private void colorizeQuad(MutableQuadViewImpl quad, int colorIndex) {
 		if (colorIndex != -1) {
@@ -144,16 +273,19 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 		// routines below have a bit of copy-paste code reuse to avoid conditional execution inside a hot loop
 		if (ao) {
 			aoCalc.compute(quad, isVanilla);
+			final float[] aoShade = aoCalc.ao;
 
 			if (emissive) {
 				for (int i = 0; i < 4; i++) {
-					quad.color(i, ColorHelper.multiplyRGB(quad.color(i), aoCalc.ao[i]));
+					quad.color(i, ColorHelper.multiplyRGB(quad.color(i), aoShade[i]));
 					quad.lightmap(i, LightmapTextureManager.MAX_LIGHT_COORDINATE);
 				}
 			} else {
+				final int[] aoLight = aoCalc.light;
+
 				for (int i = 0; i < 4; i++) {
-					quad.color(i, ColorHelper.multiplyRGB(quad.color(i), aoCalc.ao[i]));
-					quad.lightmap(i, ColorHelper.maxBrightness(quad.lightmap(i), aoCalc.light[i]));
+					quad.color(i, ColorHelper.multiplyRGB(quad.color(i), aoShade[i]));
+					quad.lightmap(i, ColorHelper.maxBrightness(quad.lightmap(i), aoLight[i]));
 				}
 			}
 		} else {
@@ -181,7 +313,9 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 		final boolean hasShade = quad.hasShade();
 
 		// Check the AO mode to match how shade is applied during smooth lighting
-		if ((Indium.AMBIENT_OCCLUSION_MODE == AoConfig.HYBRID && !isVanilla) || Indium.AMBIENT_OCCLUSION_MODE == AoConfig.ENHANCED) {
+		final AoConfig aoMode = aoCalc.mode();
+
+		if ((aoMode == AoConfig.HYBRID && !isVanilla) || aoMode == AoConfig.ENHANCED) {
 			if (quad.hasAllVertexNormals()) {
 				for (int i = 0; i < 4; i++) {
 					float shade = normalShade(quad.normalX(i), quad.normalY(i), quad.normalZ(i), hasShade);
@@ -326,7 +460,7 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 
 		@Override
 		public void accept(BakedModel model, @Nullable BlockState state) {
-			VanillaModelEncoder.emitBlockQuads(model, state, blockInfo.randomSupplier, AbstractBlockRenderContext.this, vanillaModelEditorQuad);
+			emitVanillaModel(model, state, blockInfo.randomSupplier);
 		}
 	}
 }
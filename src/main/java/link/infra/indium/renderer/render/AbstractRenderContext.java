@@ -22,20 +22,31 @@ import org.joml.Matrix3f;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
 import org.joml.Vector4f;
+import org.lwjgl.system.MemoryStack;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import link.infra.indium.other.SpriteFinderCache;
 import link.infra.indium.renderer.mesh.MutableQuadViewImpl;
 import me.jellysquid.mods.sodium.client.render.texture.SpriteUtil;
+import net.caffeinemc.mods.sodium.api.util.ColorARGB;
+import net.caffeinemc.mods.sodium.api.util.NormI8;
+import net.caffeinemc.mods.sodium.api.vertex.buffer.VertexBufferWriter;
+import net.caffeinemc.mods.sodium.api.vertex.format.common.ModelVertex;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.renderer.v1.mesh.MutableQuadView;
 import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
 import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.util.math.MatrixStack;
 
 abstract class AbstractRenderContext implements RenderContext {
 	private static final QuadTransform NO_TRANSFORM = q -> true;
 
+	private static final int MATRIX_GENERAL = 0;
+	private static final int MATRIX_IDENTITY = 1;
+	private static final int MATRIX_TRANSLATION = 2;
+	private static final int MATRIX_SCALE_TRANSLATION = 3;
+
 	private QuadTransform activeTransform = NO_TRANSFORM;
 	private final ObjectArrayList<QuadTransform> transformStack = new ObjectArrayList<>();
 	private final QuadTransform stackTransform = q -> {
@@ -49,6 +60,8 @@ abstract class AbstractRenderContext implements RenderContext {
 
 		return true;
 	};
+	/** Deepest transform stack seen since last reset by the subclass. */
+	protected int maxTransformDepth;
 
 	@Deprecated
 	private final Consumer<Mesh> meshConsumer = mesh -> mesh.outputTo(getEmitter());
@@ -56,6 +69,11 @@ abstract class AbstractRenderContext implements RenderContext {
 	protected Matrix4f matrix;
 	protected Matrix3f normalMatrix;
 	protected int overlay;
+	/** Which of the {@code MATRIX_} cases {@link #matrix} falls into, so that {@link #bufferQuad} can skip needless math. */
+	private int matrixKind;
+	private float matrixScale;
+	private float matrixX, matrixY, matrixZ;
+	private boolean isNormalMatrixIdentity;
 	private final Vector4f posVec = new Vector4f();
 	private final Vector3f normalVec = new Vector3f();
 
@@ -81,6 +99,10 @@ abstract class AbstractRenderContext implements RenderContext {
 		} else if (transformStack.size() == 2) {
 			activeTransform = stackTransform;
 		}
+
+		if (transformStack.size() > maxTransformDepth) {
+			maxTransformDepth = transformStack.size();
+		}
 	}
 
 	@Override
@@ -101,37 +123,126 @@ abstract class AbstractRenderContext implements RenderContext {
 		return meshConsumer;
 	}
 
-	/** final output step. */
+	/**
+	 * Sets the matrices used by {@link #bufferQuad} from the given matrix stack entry and classifies them,
+	 * as most positions are only translated and most normals aren't transformed at all.
+	 */
+	protected void prepareMatrices(MatrixStack.Entry entry) {
+		final Matrix4f matrix = entry.getPositionMatrix();
+		final Matrix3f normalMatrix = entry.getNormalMatrix();
+		this.matrix = matrix;
+		this.normalMatrix = normalMatrix;
+
+		final float scale = matrix.m00();
+
+		if (matrix.m01() != 0.0f || matrix.m02() != 0.0f || matrix.m03() != 0.0f
+				|| matrix.m10() != 0.0f || matrix.m12() != 0.0f || matrix.m13() != 0.0f
+				|| matrix.m20() != 0.0f || matrix.m21() != 0.0f || matrix.m23() != 0.0f
+				|| matrix.m11() != scale || matrix.m22() != scale || matrix.m33() != 1.0f) {
+			matrixKind = MATRIX_GENERAL;
+		} else if (scale != 1.0f) {
+			matrixKind = MATRIX_SCALE_TRANSLATION;
+		} else if (matrix.m30() != 0.0f || matrix.m31() != 0.0f || matrix.m32() != 0.0f) {
+			matrixKind = MATRIX_TRANSLATION;
+		} else {
+			matrixKind = MATRIX_IDENTITY;
+		}
+
+		matrixScale = scale;
+		matrixX = matrix.m30();
+		matrixY = matrix.m31();
+		matrixZ = matrix.m32();
+
+		isNormalMatrixIdentity = normalMatrix.m00() == 1.0f && normalMatrix.m11() == 1.0f && normalMatrix.m22() == 1.0f
+				&& normalMatrix.m01() == 0.0f && normalMatrix.m02() == 0.0f
+				&& normalMatrix.m10() == 0.0f && normalMatrix.m12() == 0.0f
+				&& normalMatrix.m20() == 0.0f && normalMatrix.m21() == 0.0f;
+	}
+
+	private void transformPosition(MutableQuadViewImpl quad, int vertexIndex, Vector4f out) {
+		final float x = quad.x(vertexIndex);
+		final float y = quad.y(vertexIndex);
+		final float z = quad.z(vertexIndex);
+
+		switch (matrixKind) {
+		case MATRIX_IDENTITY -> out.set(x, y, z, 1.0f);
+		case MATRIX_TRANSLATION -> out.set(x + matrixX, y + matrixY, z + matrixZ, 1.0f);
+		case MATRIX_SCALE_TRANSLATION -> out.set(matrixScale * x + matrixX, matrixScale * y + matrixY, matrixScale * z + matrixZ, 1.0f);
+		default -> {
+			out.set(x, y, z, 1.0f);
+			out.mul(matrix);
+		}
+		}
+	}
+
+	/**
+	 * final output step. When the consumer supports Sodium's {@link VertexBufferWriter}, the quad is written to
+	 * native memory and pushed in one call instead of one consumer call per vertex attribute.
+	 */
 	protected void bufferQuad(MutableQuadViewImpl quad, VertexConsumer vertexConsumer) {
 		final Vector4f posVec = this.posVec;
 		final Vector3f normalVec = this.normalVec;
 		final boolean useNormals = quad.hasVertexNormals();
+		final boolean transformNormals = !isNormalMatrixIdentity;
 
 		if (useNormals) {
 			quad.populateMissingNormals();
 		} else {
 			normalVec.set(quad.faceNormal());
-			normalVec.mul(normalMatrix);
+
+			if (transformNormals) {
+				normalVec.mul(normalMatrix);
+			}
 		}
 
-		for (int i = 0; i < 4; i++) {
-			posVec.set(quad.x(i), quad.y(i), quad.z(i), 1.0f);
-			posVec.mul(matrix);
-			vertexConsumer.vertex(posVec.x(), posVec.y(), posVec.z());
+		final VertexBufferWriter writer = VertexBufferWriter.tryOf(vertexConsumer);
 
-			final int color = quad.color(i);
-			vertexConsumer.color((color >>> 16) & 0xFF, (color >>> 8) & 0xFF, color & 0xFF, (color >>> 24) & 0xFF);
-			vertexConsumer.texture(quad.u(i), quad.v(i));
-			vertexConsumer.overlay(overlay);
-			vertexConsumer.light(quad.lightmap(i));
+		if (writer != null) {
+			try (MemoryStack stack = MemoryStack.stackPush()) {
+				final long buffer = stack.nmalloc(4 * ModelVertex.STRIDE);
+				long ptr = buffer;
 
-			if (useNormals) {
-				quad.copyNormal(i, normalVec);
-				normalVec.mul(normalMatrix);
+				for (int i = 0; i < 4; i++) {
+					transformPosition(quad, i, posVec);
+
+					if (useNormals) {
+						quad.copyNormal(i, normalVec);
+
+						if (transformNormals) {
+							normalVec.mul(normalMatrix);
+						}
+					}
+
+					final int color = quad.color(i);
+					ModelVertex.write(ptr, posVec.x(), posVec.y(), posVec.z(), ColorARGB.toABGR(color, (color >>> 24) & 0xFF),
+							quad.u(i), quad.v(i), overlay, quad.lightmap(i), NormI8.pack(normalVec.x(), normalVec.y(), normalVec.z()));
+					ptr += ModelVertex.STRIDE;
+				}
+
+				writer.push(stack, buffer, 4, ModelVertex.FORMAT);
 			}
+		} else {
+			for (int i = 0; i < 4; i++) {
+				transformPosition(quad, i, posVec);
+				vertexConsumer.vertex(posVec.x(), posVec.y(), posVec.z());
+
+				final int color = quad.color(i);
+				vertexConsumer.color((color >>> 16) & 0xFF, (color >>> 8) & 0xFF, color & 0xFF, (color >>> 24) & 0xFF);
+				vertexConsumer.texture(quad.u(i), quad.v(i));
+				vertexConsumer.overlay(overlay);
+				vertexConsumer.light(quad.lightmap(i));
 
-			vertexConsumer.normal(normalVec.x(), normalVec.y(), normalVec.z());
-			vertexConsumer.next();
+				if (useNormals) {
+					quad.copyNormal(i, normalVec);
+
+					if (transformNormals) {
+						normalVec.mul(normalMatrix);
+					}
+				}
+
+				vertexConsumer.normal(normalVec.x(), normalVec.y(), normalVec.z());
+				vertexConsumer.next();
+			}
 		}
 
 		Sprite sprite = quad.cachedSprite();
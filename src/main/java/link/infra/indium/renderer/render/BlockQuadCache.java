@@ -0,0 +1,106 @@
+package link.infra.indium.renderer.render;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import link.infra.indium.Indium;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.model.BakedModel;
+
+/**
+ * Opt-in cache of the quads that terrain block models emit, enabled by setting {@code block-quad-cache-size}.
+ *
+ * <p>Quads are stored after model transforms and culling, but before coloring and lighting, so replaying them
+ * is equivalent to emitting them again as long as the model output depends only on the cache key. Models whose
+ * output depends on the world (connected textures, for example) will render incorrectly with this enabled.
+ *
+ * <p>Models that use the random supplier while emitting are never cached, so random variants are unaffected.
+ * Each entry holds a few variants, one for each outcome of the cull checks that the model actually ran.
+ */
+public final class BlockQuadCache {
+	/** Cull outcomes stored per model and state. Further outcomes are rendered without the cache. */
+	private static final int MAX_VARIANTS = 8;
+
+	@Nullable
+	private static final Cache<Key, Entry> CACHE = Indium.BLOCK_QUAD_CACHE_SIZE > 0 ? CacheBuilder.newBuilder().maximumSize(Indium.BLOCK_QUAD_CACHE_SIZE).build() : null;
+
+	private BlockQuadCache() { }
+
+	public static boolean isEnabled() {
+		return CACHE != null;
+	}
+
+	/** Must be called on resource reload to release models and sprites. */
+	public static void clear() {
+		if (CACHE != null) {
+			CACHE.invalidateAll();
+		}
+	}
+
+	@Nullable
+	static Entry get(Key key) {
+		return CACHE.getIfPresent(key);
+	}
+
+	/**
+	 * Stores quads emitted for the key.
+	 * @param checkedFaces bit mask of the faces whose cull check ran while emitting, see {@link BlockRenderInfo#checkedFaceMask()}
+	 * @param drawnFaces bit mask of the checked faces that passed
+	 */
+	static void put(Key key, int checkedFaces, int drawnFaces, RecordedQuads quads) {
+		final Variant variant = new Variant(checkedFaces, drawnFaces, quads);
+		CACHE.asMap().compute(key, (k, entry) -> entry == null ? new Entry(new Variant[] { variant }) : entry.with(variant));
+	}
+
+	/** Marks the key as depending on the random seed, so that it is no longer recorded. */
+	static void putSeedDependent(Key key) {
+		CACHE.put(key, Entry.SEED_DEPENDENT);
+	}
+
+	record Key(BakedModel model, BlockState state) {
+	}
+
+	static final class Entry {
+		private static final Entry SEED_DEPENDENT = new Entry(new Variant[0]);
+
+		private final Variant[] variants;
+
+		private Entry(Variant[] variants) {
+			this.variants = variants;
+		}
+
+		/** Whether a block that matched no variant should be recorded as a new one. */
+		boolean acceptsVariants() {
+			return this != SEED_DEPENDENT && variants.length < MAX_VARIANTS;
+		}
+
+		/** Returns the variant matching the cull checks of the current block, only running the checks variants need. */
+		@Nullable
+		RecordedQuads find(BlockRenderInfo blockInfo) {
+			for (Variant variant : variants) {
+				if (blockInfo.drawnFaceMask(variant.checkedFaces) == variant.drawnFaces) {
+					return variant.quads;
+				}
+			}
+
+			return null;
+		}
+
+		private Entry with(Variant variant) {
+			if (!acceptsVariants()) {
+				return this;
+			}
+
+			final Variant[] variants = Arrays.copyOf(this.variants, this.variants.length + 1);
+			variants[variants.length - 1] = variant;
+			return new Entry(variants);
+		}
+	}
+
+	private record Variant(int checkedFaces, int drawnFaces, RecordedQuads quads) {
+	}
+}
@@ -40,7 +40,9 @@ import net.minecraft.world.BlockRenderView;
  * so they can be applied together with chunk offsets.
  */
 public class BlockRenderInfo {
-	private final BlockColors blockColorMap = MinecraftClient.getInstance().getBlockColors();
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	private final BlockColors blockColorMap;
 	private final BlockPos.Mutable searchPos = new BlockPos.Mutable();
 
 	public BlockRenderView blockView;
@@ -53,7 +55,10 @@ public class BlockRenderInfo {
 
 	Random random;
 	long seed;
+	/** Whether {@link #randomSupplier} was used since the last {@link #prepareForBlock}. */
+	boolean randomUsed;
 	public final Supplier<Random> randomSupplier = () -> {
+		randomUsed = true;
 		random.setSeed(seed);
 		return random;
 	};
@@ -62,6 +67,14 @@ public class BlockRenderInfo {
 	private int cullCompletionFlags;
 	private int cullResultFlags;
 
+	public BlockRenderInfo() {
+		this(MinecraftClient.getInstance().getBlockColors());
+	}
+
+	public BlockRenderInfo(BlockColors blockColorMap) {
+		this.blockColorMap = blockColorMap;
+	}
+
 	public void prepareForWorld(BlockRenderView blockView, boolean enableCulling) {
 		this.blockView = blockView;
 		this.enableCulling = enableCulling;
@@ -71,8 +84,9 @@ public class BlockRenderInfo {
 		this.blockPos = blockPos;
 		this.blockState = blockState;
 		this.seed = seed;
+		randomUsed = false;
 
-		useAo = MinecraftClient.isAmbientOcclusionEnabled();
+		useAo = isAmbientOcclusionEnabled();
 		defaultAo = useAo && modelAo && blockState.getLuminance() == 0;
 
 		defaultLayer = RenderLayers.getBlockLayer(blockState);
@@ -81,6 +95,11 @@ public class BlockRenderInfo {
 		cullResultFlags = 0;
 	}
 
+	/** Whether smooth lighting is enabled in the client options. Overridden by benchmarks, which run without a client. */
+	boolean isAmbientOcclusionEnabled() {
+		return MinecraftClient.isAmbientOcclusionEnabled();
+	}
+
 	/**
 	 * Clean up context for reuse in another block
 	 */
@@ -123,6 +142,29 @@ public class BlockRenderInfo {
 		}
 	}
 
+	/** Bit mask of the faces whose cull check has run for the current block, indexed by {@link Direction#getId()}. */
+	int checkedFaceMask() {
+		return cullCompletionFlags;
+	}
+
+	/**
+	 * Bit mask of the given faces that pass {@link #shouldDrawFace(Direction)}, indexed by {@link Direction#getId()}.
+	 * Only the cull checks of the given faces are run.
+	 */
+	int drawnFaceMask(int faces) {
+		int mask = 0;
+
+		for (Direction face : DIRECTIONS) {
+			final int bit = 1 << face.getId();
+
+			if ((faces & bit) != 0 && shouldDrawFace(face)) {
+				mask |= bit;
+			}
+		}
+
+		return mask;
+	}
+
 	boolean shouldDrawFaceInner(Direction face) {
 		return Block.shouldDrawSide(blockState, blockView, blockPos, face, searchPos.set(blockPos, face));
 	}
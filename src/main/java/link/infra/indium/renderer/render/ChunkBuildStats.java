@@ -0,0 +1,90 @@
+package link.infra.indium.renderer.render;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the work done by Indium during chunk builds when {@code profile-chunk-builds} is enabled.
+ * Each terrain render context counts into its own instance without synchronization, and adds its
+ * counts to the global totals shown on the debug screen after every chunk build. The totals cover the
+ * interval since the last {@link #reset()}, which happens on every world change and on {@code /indium profiler reset}.
+ */
+public class ChunkBuildStats {
+	private static final LongAdder TOTAL_INDIUM_BLOCKS = new LongAdder();
+	private static final LongAdder TOTAL_DELEGATED_BLOCKS = new LongAdder();
+	private static final LongAdder TOTAL_INDIUM_NANOS = new LongAdder();
+	private static final LongAdder TOTAL_QUADS_BUFFERED = new LongAdder();
+	private static final LongAdder TOTAL_QUADS_CULLED = new LongAdder();
+	private static final LongAdder TOTAL_AO_VANILLA = new LongAdder();
+	private static final LongAdder TOTAL_AO_FAST_VANILLA = new LongAdder();
+	private static final LongAdder TOTAL_AO_ENHANCED = new LongAdder();
+	private static final LongAccumulator MAX_TRANSFORM_DEPTH = new LongAccumulator(Math::max, 0);
+	private static volatile long intervalStart = System.nanoTime();
+
+	public long indiumBlocks;
+	public long delegatedBlocks;
+	public long indiumNanos;
+	public long quadsBuffered;
+	public long quadsCulled;
+	public long aoVanilla;
+	public long aoFastVanilla;
+	public long aoEnhanced;
+	/** Deepest quad transform stack seen during the chunk build. */
+	public int maxTransformDepth;
+
+	/** Adds the counts of this instance to the global totals and resets it. */
+	public void flush() {
+		TOTAL_INDIUM_BLOCKS.add(indiumBlocks);
+		TOTAL_DELEGATED_BLOCKS.add(delegatedBlocks);
+		TOTAL_INDIUM_NANOS.add(indiumNanos);
+		TOTAL_QUADS_BUFFERED.add(quadsBuffered);
+		TOTAL_QUADS_CULLED.add(quadsCulled);
+		TOTAL_AO_VANILLA.add(aoVanilla);
+		TOTAL_AO_FAST_VANILLA.add(aoFastVanilla);
+		TOTAL_AO_ENHANCED.add(aoEnhanced);
+		MAX_TRANSFORM_DEPTH.accumulate(maxTransformDepth);
+		indiumBlocks = 0;
+		delegatedBlocks = 0;
+		indiumNanos = 0;
+		quadsBuffered = 0;
+		quadsCulled = 0;
+		aoVanilla = 0;
+		aoFastVanilla = 0;
+		aoEnhanced = 0;
+		maxTransformDepth = 0;
+	}
+
+	/**
+	 * Clears the global totals and starts a new interval. Counts flushed by chunk builds that are still running
+	 * are attributed to the new interval.
+	 */
+	public static void reset() {
+		TOTAL_INDIUM_BLOCKS.reset();
+		TOTAL_DELEGATED_BLOCKS.reset();
+		TOTAL_INDIUM_NANOS.reset();
+		TOTAL_QUADS_BUFFERED.reset();
+		TOTAL_QUADS_CULLED.reset();
+		TOTAL_AO_VANILLA.reset();
+		TOTAL_AO_FAST_VANILLA.reset();
+		TOTAL_AO_ENHANCED.reset();
+		MAX_TRANSFORM_DEPTH.reset();
+		intervalStart = System.nanoTime();
+	}
+
+	/** Appends a summary of the global totals to the debug screen text. */
+	public static void addDebugText(List<String> lines) {
+		final long indiumBlocks = TOTAL_INDIUM_BLOCKS.sum();
+		final long nanos = TOTAL_INDIUM_NANOS.sum();
+
+		lines.add("");
+		lines.add(String.format("[Indium] Chunk builds over the last %.1f s", (System.nanoTime() - intervalStart) / 1_000_000_000.0));
+		lines.add(String.format("[Indium] Blocks: %d tessellated, %d delegated, %.2f us/block",
+				indiumBlocks, TOTAL_DELEGATED_BLOCKS.sum(), indiumBlocks == 0 ? 0.0 : nanos / 1000.0 / indiumBlocks));
+		lines.add(String.format("[Indium] Quads: %d buffered, %d culled, %.1f ms total",
+				TOTAL_QUADS_BUFFERED.sum(), TOTAL_QUADS_CULLED.sum(), nanos / 1_000_000.0));
+		lines.add(String.format("[Indium] AO: %d vanilla, %d fast vanilla, %d enhanced",
+				TOTAL_AO_VANILLA.sum(), TOTAL_AO_FAST_VANILLA.sum(), TOTAL_AO_ENHANCED.sum()));
+		lines.add(String.format("[Indium] Max transform depth: %d", MAX_TRANSFORM_DEPTH.get()));
+	}
+}
@@ -0,0 +1,105 @@
+package link.infra.indium.renderer.render;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import link.infra.indium.Indium;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.json.ModelTransformationMode;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.AbstractNbtList;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+
+/**
+ * Opt-in cache of the quads that item models emit, enabled by setting {@code item-quad-cache-size}.
+ *
+ * <p>Quads are stored after model transforms and item colors, but before lighting, so replaying them only needs
+ * to apply the lightmap and matrices of the current render. This is equivalent to emitting them again as long as the
+ * model output and item colors depend only on the cache key. Models that animate or read client state in
+ * {@code emitItemQuads} will render incorrectly with this enabled.
+ *
+ * <p>Least recently used entries are evicted once the cache is full. Stacks with large NBT, like filled containers,
+ * are not cached, as hashing and comparing their NBT on every render would cost more than the cache saves.
+ */
+public final class ItemQuadCache {
+	/** Stacks whose NBT has more elements than this are rendered without the cache. */
+	private static final int MAX_NBT_ELEMENTS = 32;
+
+	@Nullable
+	private static final Cache<Key, RecordedQuads> CACHE = Indium.ITEM_QUAD_CACHE_SIZE > 0 ? CacheBuilder.newBuilder().maximumSize(Indium.ITEM_QUAD_CACHE_SIZE).build() : null;
+
+	private ItemQuadCache() { }
+
+	public static boolean isEnabled() {
+		return CACHE != null;
+	}
+
+	/** Must be called on resource reload to release models and sprites. */
+	public static void clear() {
+		if (CACHE != null) {
+			CACHE.invalidateAll();
+		}
+	}
+
+	@Nullable
+	static RecordedQuads get(Key key) {
+		return CACHE.getIfPresent(key);
+	}
+
+	/**
+	 * Stores quads under a key built for lookup. The NBT of the key is copied first,
+	 * as the stack it was taken from may be modified afterwards.
+	 */
+	static void put(Key key, RecordedQuads quads) {
+		final NbtCompound nbt = key.nbt();
+		CACHE.put(nbt == null ? key : new Key(key.model(), key.item(), nbt.copy(), key.mode()), quads);
+	}
+
+	/** Builds a lookup key that shares the NBT of the stack, or returns null if its NBT is too large to cache. */
+	@Nullable
+	static Key key(BakedModel model, ItemStack stack, ModelTransformationMode mode) {
+		final NbtCompound nbt = stack.getNbt();
+
+		if (nbt != null && remainingElements(nbt, MAX_NBT_ELEMENTS) < 0) {
+			return null;
+		}
+
+		return new Key(model, stack.getItem(), nbt, mode);
+	}
+
+	/** Counts the elements of an NBT tree against a budget, stopping as soon as it is exceeded. */
+	private static int remainingElements(NbtElement element, int budget) {
+		budget--;
+
+		if (budget < 0) {
+			return budget;
+		}
+
+		if (element instanceof NbtCompound compound) {
+			for (String name : compound.getKeys()) {
+				budget = remainingElements(compound.get(name), budget);
+
+				if (budget < 0) {
+					break;
+				}
+			}
+		} else if (element instanceof NbtList list) {
+			for (int i = 0; i < list.size() && budget >= 0; i++) {
+				budget = remainingElements(list.get(i), budget);
+			}
+		} else if (element instanceof AbstractNbtList<?> array) {
+			// Primitive arrays, whose entries are only boxed on access
+			budget -= array.size();
+		}
+
+		return budget;
+	}
+
+	record Key(BakedModel model, Item item, @Nullable NbtCompound nbt, ModelTransformationMode mode) {
+	}
+}
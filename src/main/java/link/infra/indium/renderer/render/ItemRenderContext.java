@@ -85,8 +85,10 @@ public class ItemRenderContext extends AbstractRenderContext {
 	private VertexConsumerProvider vertexConsumerProvider;
 	private int lightmap;
 
+	private boolean isLayerInfoComputed;
 	private boolean isDefaultTranslucent;
 	private boolean isTranslucentDirect;
+	private boolean isGlintInfoComputed;
 	private boolean isDefaultGlint;
 
 	private VertexConsumer translucentVertexConsumer;
@@ -94,6 +96,11 @@ public class ItemRenderContext extends AbstractRenderContext {
 	private VertexConsumer translucentGlintVertexConsumer;
 	private VertexConsumer cutoutGlintVertexConsumer;
 
+	private final RecordedQuads.Recorder recorder = new RecordedQuads.Recorder();
+	/** Set while emitting quads that will be stored in the {@link ItemQuadCache}. */
+	@Nullable
+	private RecordedQuads.Recorder recording;
+
 	public ItemRenderContext(ItemColors colorMap) {
 		this.colorMap = colorMap;
 	}
@@ -115,12 +122,34 @@ public class ItemRenderContext extends AbstractRenderContext {
 		this.vertexConsumerProvider = vertexConsumerProvider;
 		this.lightmap = lightmap;
 		this.overlay = overlay;
-		computeOutputInfo();
+		isLayerInfoComputed = false;
+		isGlintInfoComputed = false;
+
+		prepareMatrices(matrixStack.peek());
+
+		// Transforms pushed by the caller aren't part of the cache key
+		final ItemQuadCache.Key key = ItemQuadCache.isEnabled() && !hasTransform() ? ItemQuadCache.key(model, itemStack, transformMode) : null;
+
+		if (key == null) {
+			model.emitItemQuads(itemStack, randomSupplier, this);
+		} else {
+			final RecordedQuads cached = ItemQuadCache.get(key);
 
-		matrix = matrixStack.peek().getPositionMatrix();
-		normalMatrix = matrixStack.peek().getNormalMatrix();
+			if (cached != null) {
+				renderRecorded(cached);
+			} else {
+				recorder.reset();
+				recording = recorder;
 
-		model.emitItemQuads(itemStack, randomSupplier, this);
+				try {
+					model.emitItemQuads(itemStack, randomSupplier, this);
+				} finally {
+					recording = null;
+				}
+
+				ItemQuadCache.put(key, recorder.finish());
+			}
+		}
 
 		this.itemStack = null;
 		this.vertexConsumerProvider = null;
@@ -131,7 +160,11 @@ public class ItemRenderContext extends AbstractRenderContext {
 		cutoutGlintVertexConsumer = null;
 	}
 
-	private void computeOutputInfo() {
+	/**
+	 * Computes which layer quads with the default blend mode use. Only done once a quad needs it, as the block
+	 * layer lookup is wasted for models that emit no quads or only quads with an explicit blend mode.
+	 */
+	private void computeLayerInfo() {
 		isDefaultTranslucent = true;
 		isTranslucentDirect = true;
 
@@ -150,7 +183,12 @@ public class ItemRenderContext extends AbstractRenderContext {
 			}
 		}
 
+		isLayerInfoComputed = true;
+	}
+
+	private void computeGlintInfo() {
 		isDefaultGlint = itemStack.hasGlint();
+		isGlintInfoComputed = true;
 	}
 
 	private void renderQuad(MutableQuadViewImpl quad) {
@@ -164,10 +202,31 @@ public class ItemRenderContext extends AbstractRenderContext {
 		final VertexConsumer vertexConsumer = getVertexConsumer(mat.blendMode(), mat.glint());
 
 		colorizeQuad(quad, colorIndex);
+
+		if (recording != null) {
+			recording.record(quad, false);
+		}
+
 		shadeQuad(quad, emissive);
 		bufferQuad(quad, vertexConsumer);
 	}
 
+	/**
+	 * Renders quads from the {@link ItemQuadCache}, which have already been transformed and colored.
+	 */
+	private void renderRecorded(RecordedQuads quads) {
+		final MutableQuadViewImpl quad = editorQuad;
+
+		for (int i = 0; i < quads.size(); i++) {
+			quads.load(i, quad);
+			final RenderMaterial mat = quad.material();
+			shadeQuad(quad, mat.emissive());
+			bufferQuad(quad, getVertexConsumer(mat.blendMode(), mat.glint()));
+		}
+
+		quad.clear();
+	}
+
 	private void colorizeQuad(MutableQuadViewImpl quad, int colorIndex) {
 		if (colorIndex != -1) {
 			final int itemColor = 0xFF000000 | colorMap.getColor(itemStack, colorIndex);
@@ -202,12 +261,20 @@ public class ItemRenderContext extends AbstractRenderContext {
 		boolean glint;
 
 		if (blendMode == BlendMode.DEFAULT) {
+			if (!isLayerInfoComputed) {
+				computeLayerInfo();
+			}
+
 			translucent = isDefaultTranslucent;
 		} else {
 			translucent = blendMode == BlendMode.TRANSLUCENT;
 		}
 
 		if (glintMode == TriState.DEFAULT) {
+			if (!isGlintInfoComputed) {
+				computeGlintInfo();
+			}
+
 			glint = isDefaultGlint;
 		} else {
 			glint = glintMode == TriState.TRUE;
@@ -245,6 +312,10 @@ public class ItemRenderContext extends AbstractRenderContext {
 	}
 
 	private VertexConsumer createTranslucentVertexConsumer(boolean glint) {
+		if (!isLayerInfoComputed) {
+			computeLayerInfo();
+		}
+
 		if (isTranslucentDirect) {
 			return ItemRenderer.getDirectItemGlintConsumer(vertexConsumerProvider, TexturedRenderLayers.getEntityTranslucentCull(), true, glint);
 		} else if (MinecraftClient.isFabulousGraphicsOrBetter()) {
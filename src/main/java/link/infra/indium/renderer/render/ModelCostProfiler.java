@@ -0,0 +1,91 @@
+package link.infra.indium.renderer.render;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import link.infra.indium.Indium;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.registry.Registries;
+
+/**
+ * Attributes terrain tessellation cost to model classes and blocks, to find the models that make chunk builds slow.
+ * Enabled by setting {@code model-profiler-sample-rate} to a positive value N, which times every Nth block
+ * tessellated by each chunk build thread. The collected data can be written to a CSV file in the config directory.
+ */
+public final class ModelCostProfiler {
+	public static final int SAMPLE_RATE = Indium.MODEL_PROFILER_SAMPLE_RATE;
+	private static final String REPORT_FILE = "indium-model-profile.csv";
+
+	private static final Map<Class<?>, Entry> BY_MODEL_CLASS = new ConcurrentHashMap<>();
+	private static final Map<Block, Entry> BY_BLOCK = new ConcurrentHashMap<>();
+
+	private ModelCostProfiler() {
+	}
+
+	public static boolean isEnabled() {
+		return SAMPLE_RATE > 0;
+	}
+
+	static void record(BakedModel model, BlockState state, long nanos, int quads) {
+		BY_MODEL_CLASS.computeIfAbsent(model.getClass(), c -> new Entry()).add(nanos, quads);
+		BY_BLOCK.computeIfAbsent(state.getBlock(), b -> new Entry()).add(nanos, quads);
+	}
+
+	public static void reset() {
+		BY_MODEL_CLASS.clear();
+		BY_BLOCK.clear();
+	}
+
+	/**
+	 * Writes the samples collected so far, sorted by total time, to the report file in the config directory.
+	 * @return the path of the report
+	 */
+	public static Path dump() throws IOException {
+		final List<Row> rows = new ArrayList<>();
+		BY_MODEL_CLASS.forEach((modelClass, entry) -> rows.add(new Row("model", modelClass.getName(), entry)));
+		BY_BLOCK.forEach((block, entry) -> rows.add(new Row("block", Registries.BLOCK.getId(block).toString(), entry)));
+		rows.sort(Comparator.comparing(Row::kind).thenComparing(Comparator.comparingLong(Row::nanos).reversed()));
+
+		final Path file = FabricLoader.getInstance().getConfigDir().resolve(REPORT_FILE);
+
+		try (Writer writer = Files.newBufferedWriter(file)) {
+			writer.write("kind,name,samples,total_ms,avg_us,avg_quads\n");
+
+			for (Row row : rows) {
+				writer.write(String.format("%s,%s,%d,%.3f,%.3f,%.2f\n", row.kind, row.name, row.samples,
+						row.nanos / 1_000_000.0, row.nanos / 1_000.0 / row.samples, (double) row.quads / row.samples));
+			}
+		}
+
+		return file;
+	}
+
+	private static final class Entry {
+		final LongAdder samples = new LongAdder();
+		final LongAdder nanos = new LongAdder();
+		final LongAdder quads = new LongAdder();
+
+		void add(long nanos, int quads) {
+			this.samples.increment();
+			this.nanos.add(nanos);
+			this.quads.add(quads);
+		}
+	}
+
+	private record Row(String kind, String name, long samples, long nanos, long quads) {
+		Row(String kind, String name, Entry entry) {
+			this(kind, name, Math.max(1, entry.samples.sum()), entry.nanos.sum(), entry.quads.sum());
+		}
+	}
+}
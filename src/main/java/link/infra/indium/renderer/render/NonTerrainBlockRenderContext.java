@@ -16,6 +16,9 @@
 
 package link.infra.indium.renderer.render;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import link.infra.indium.renderer.aocalc.AoCalculator;
 import link.infra.indium.renderer.mesh.MutableQuadViewImpl;
 import me.jellysquid.mods.sodium.client.model.light.data.LightDataAccess;
@@ -29,17 +32,38 @@ import net.minecraft.util.math.random.Random;
 import net.minecraft.world.BlockRenderView;
 
 /**
- * Context for non-terrain block rendering.
+ * Context for non-terrain block rendering. Each thread keeps a stack of contexts, so that models can render other
+ * blocks while emitting their own quads: {@link #acquire()} a context, render with it and {@link #release()} it
+ * afterwards on the same thread.
  */
 public class NonTerrainBlockRenderContext extends AbstractBlockRenderContext {
+	private static final ThreadLocal<ContextStack> STACKS = ThreadLocal.withInitial(ContextStack::new);
+
+	private final ContextStack stack;
 	private final SingleBlockLightDataCache lightCache = new SingleBlockLightDataCache();
 	private VertexConsumer vertexConsumer;
 
-	public NonTerrainBlockRenderContext() {
+	private NonTerrainBlockRenderContext(ContextStack stack) {
+		this.stack = stack;
 		blockInfo = new BlockRenderInfo();
 		aoCalc = new AoCalculator(blockInfo, lightCache);
 	}
 
+	/**
+	 * Takes the current thread's context for the current nesting depth, creating it on first use.
+	 * The context must be returned with {@link #release()} once rendering is done.
+	 */
+	public static NonTerrainBlockRenderContext acquire() {
+		return STACKS.get().push();
+	}
+
+	/**
+	 * Returns this context to its thread's stack. It must not be used again until it is acquired.
+	 */
+	public void release() {
+		stack.depth--;
+	}
+
 	@Override
 	protected LightDataAccess getLightCache() {
 		return lightCache;
@@ -52,8 +76,7 @@ public class NonTerrainBlockRenderContext extends AbstractBlockRenderContext {
 
 	public void render(BlockRenderView blockView, BakedModel model, BlockState state, BlockPos pos, MatrixStack matrixStack, VertexConsumer buffer, boolean cull, Random random, long seed, int overlay) {
 		this.vertexConsumer = buffer;
-		this.matrix = matrixStack.peek().getPositionMatrix();
-		this.normalMatrix = matrixStack.peek().getNormalMatrix();
+		prepareMatrices(matrixStack.peek());
 		this.overlay = overlay;
 
 		blockInfo.random = random;
@@ -65,10 +88,23 @@ public class NonTerrainBlockRenderContext extends AbstractBlockRenderContext {
 
 		model.emitBlockQuads(blockView, state, pos, blockInfo.randomSupplier, this);
 
-		// blockInfo is thread-local, not cleaned up when leaving world (and could be called for arbitrary BlockRenderViews)
+		// blockInfo is pooled, not cleaned up when leaving world (and could be called for arbitrary BlockRenderViews)
 		blockInfo.release();
 		lightCache.release();
 		blockInfo.random = null;
 		this.vertexConsumer = null;
 	}
+
+	private static final class ContextStack {
+		private final List<NonTerrainBlockRenderContext> contexts = new ArrayList<>();
+		private int depth;
+
+		NonTerrainBlockRenderContext push() {
+			if (depth == contexts.size()) {
+				contexts.add(new NonTerrainBlockRenderContext(this));
+			}
+
+			return contexts.get(depth++);
+		}
+	}
 }
@@ -0,0 +1,72 @@
+package link.infra.indium.renderer.render;
+
+import java.util.Arrays;
+
+import link.infra.indium.renderer.mesh.EncodingFormat;
+import link.infra.indium.renderer.mesh.MutableQuadViewImpl;
+import net.minecraft.client.texture.Sprite;
+
+/**
+ * Immutable copy of a sequence of quads in {@link EncodingFormat} layout with computed geometry,
+ * which can be loaded back into an editor quad without emitting, transforming and classifying it again.
+ */
+public final class RecordedQuads {
+	private final int[] data;
+	private final Sprite[] sprites;
+	private final boolean[] vanilla;
+
+	private RecordedQuads(int[] data, Sprite[] sprites, boolean[] vanilla) {
+		this.data = data;
+		this.sprites = sprites;
+		this.vanilla = vanilla;
+	}
+
+	public int size() {
+		return sprites.length;
+	}
+
+	/** Loads the quad at the given index, including its cached sprite. */
+	public void load(int index, MutableQuadViewImpl quad) {
+		quad.loadEncoded(data, index * EncodingFormat.TOTAL_STRIDE);
+		quad.cachedSprite(sprites[index]);
+	}
+
+	/** True if the quad at the given index came from a vanilla model. */
+	public boolean isVanilla(int index) {
+		return vanilla[index];
+	}
+
+	/**
+	 * Accumulates quads for a new {@link RecordedQuads}. Can be reused after {@link #reset()}.
+	 */
+	public static final class Recorder {
+		private int[] data = new int[EncodingFormat.TOTAL_STRIDE * 8];
+		private Sprite[] sprites = new Sprite[8];
+		private boolean[] vanilla = new boolean[8];
+		private int count = 0;
+
+		public void reset() {
+			// Don't hold on to sprites from a previous resource reload
+			Arrays.fill(sprites, 0, count, null);
+			count = 0;
+		}
+
+		public void record(MutableQuadViewImpl quad, boolean isVanilla) {
+			if (count == sprites.length) {
+				final int capacity = count * 2;
+				data = Arrays.copyOf(data, capacity * EncodingFormat.TOTAL_STRIDE);
+				sprites = Arrays.copyOf(sprites, capacity);
+				vanilla = Arrays.copyOf(vanilla, capacity);
+			}
+
+			quad.copyEncoded(data, count * EncodingFormat.TOTAL_STRIDE);
+			sprites[count] = quad.cachedSprite();
+			vanilla[count] = isVanilla;
+			count++;
+		}
+
+		public RecordedQuads finish() {
+			return new RecordedQuads(Arrays.copyOf(data, count * EncodingFormat.TOTAL_STRIDE), Arrays.copyOf(sprites, count), Arrays.copyOf(vanilla, count));
+		}
+	}
+}
@@ -18,11 +18,18 @@ public class SingleBlockLightDataCache extends LightDataAccess {
 	private static final int BLOCK_LENGTH = 1 + (NEIGHBOR_BLOCK_RADIUS * 2);
 
 	private final int[] light;
+	/**
+	 * Generation in which each light entry was computed. Entries from older generations are stale,
+	 * so resetting for a new block only needs to advance the generation instead of clearing the light data.
+	 */
+	private final int[] generations;
+	private int generation;
 
 	private int xOffset, yOffset, zOffset;
 
 	public SingleBlockLightDataCache() {
 		this.light = new int[BLOCK_LENGTH * BLOCK_LENGTH * BLOCK_LENGTH];
+		this.generations = new int[this.light.length];
 	}
 
 	public void reset(BlockPos origin, BlockRenderView blockView) {
@@ -30,7 +37,11 @@ public class SingleBlockLightDataCache extends LightDataAccess {
 		this.yOffset = origin.getY() - NEIGHBOR_BLOCK_RADIUS;
 		this.zOffset = origin.getZ() - NEIGHBOR_BLOCK_RADIUS;
 
-		Arrays.fill(this.light, 0);
+		if (++this.generation == 0) {
+			// Wrapped around: entries could match the new generation, so clear them once
+			Arrays.fill(this.generations, 0);
+			this.generation = 1;
+		}
 
 		this.world = blockView;
 	}
@@ -47,12 +58,11 @@ public class SingleBlockLightDataCache extends LightDataAccess {
 	public int get(int x, int y, int z) {
 		int l = this.index(x, y, z);
 
-		int word = this.light[l];
-
-		if (word != 0) {
-			return word;
+		if (this.generations[l] == this.generation) {
+			return this.light[l];
 		}
 
+		this.generations[l] = this.generation;
 		return this.light[l] = this.compute(x, y, z);
 	}
 
@@ -17,6 +17,7 @@
 package link.infra.indium.renderer.render;
 
 import me.jellysquid.mods.sodium.client.render.chunk.compile.pipeline.BlockOcclusionCache;
+import net.minecraft.client.color.block.BlockColors;
 import net.minecraft.util.math.Direction;
 
 public class TerrainBlockRenderInfo extends BlockRenderInfo {
@@ -26,6 +27,11 @@ public class TerrainBlockRenderInfo extends BlockRenderInfo {
 		this.blockOcclusionCache = blockOcclusionCache;
 	}
 
+	public TerrainBlockRenderInfo(BlockColors blockColorMap, BlockOcclusionCache blockOcclusionCache) {
+		super(blockColorMap);
+		this.blockOcclusionCache = blockOcclusionCache;
+	}
+
 	@Override
 	boolean shouldDrawFaceInner(Direction face) {
 		return blockOcclusionCache.shouldDrawSide(blockState, blockView, blockPos, face);
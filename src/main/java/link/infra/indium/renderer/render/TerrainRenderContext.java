@@ -1,52 +1,87 @@
 package link.infra.indium.renderer.render;
 
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3fc;
 
+import link.infra.indium.Indium;
 import link.infra.indium.mixin.sodium.AccessBlockRenderer;
 import link.infra.indium.other.SpriteFinderCache;
 import link.infra.indium.renderer.accessor.AccessBlockRenderCache;
 import link.infra.indium.renderer.aocalc.AoCalculator;
+import link.infra.indium.renderer.aocalc.AoConfig;
 import link.infra.indium.renderer.mesh.MutableQuadViewImpl;
-import me.jellysquid.mods.sodium.client.model.light.data.ArrayLightDataCache;
 import me.jellysquid.mods.sodium.client.model.light.data.LightDataAccess;
 import me.jellysquid.mods.sodium.client.model.quad.properties.ModelQuadFacing;
 import me.jellysquid.mods.sodium.client.model.quad.properties.ModelQuadOrientation;
 import me.jellysquid.mods.sodium.client.render.chunk.compile.ChunkBuildBuffers;
 import me.jellysquid.mods.sodium.client.render.chunk.compile.ChunkBuildContext;
 import me.jellysquid.mods.sodium.client.render.chunk.compile.buffers.ChunkModelBuilder;
-import me.jellysquid.mods.sodium.client.render.chunk.compile.pipeline.BlockOcclusionCache;
 import me.jellysquid.mods.sodium.client.render.chunk.compile.pipeline.BlockRenderCache;
 import me.jellysquid.mods.sodium.client.render.chunk.compile.pipeline.BlockRenderContext;
+import me.jellysquid.mods.sodium.client.render.chunk.compile.pipeline.BlockRenderer;
 import me.jellysquid.mods.sodium.client.render.chunk.terrain.material.Material;
 import me.jellysquid.mods.sodium.client.render.chunk.vertex.format.ChunkVertexEncoder;
-import me.jellysquid.mods.sodium.client.world.WorldSlice;
 import net.caffeinemc.mods.sodium.api.util.ColorARGB;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.model.BakedModel;
 import net.minecraft.client.texture.Sprite;
 import net.minecraft.util.crash.CrashException;
 import net.minecraft.util.crash.CrashReport;
 import net.minecraft.util.crash.CrashReportSection;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.random.LocalRandom;
+import net.minecraft.util.math.random.Random;
 
 public class TerrainRenderContext extends AbstractBlockRenderContext {
-	private final ArrayLightDataCache lightCache;
+	private final LightDataAccess lightCache;
 
 	private final ChunkVertexEncoder.Vertex[] vertices = ChunkVertexEncoder.Vertex.uninitializedQuad();
+	@Nullable
+	private final BlockRenderer blockRenderer;
 
 	private ChunkBuildBuffers buffers;
 
 	private Vector3fc origin;
 	private Vec3d modelOffset;
 
+	/** Number of quads buffered so far, used to attribute quads to sampled blocks. */
+	private int quadsBuffered;
+	/** Blocks tessellated since the last block sampled by the {@link ModelCostProfiler}. */
+	private int blocksSinceSample;
+
+	// State of the block currently being observed by VanillaPassthrough
+	private boolean observingPassthrough;
+	private boolean passthroughEligible;
+	@Nullable
+	private BakedModel passthroughModel;
+	private final BlockPos.Mutable passthroughOrigin = new BlockPos.Mutable();
+
 	public TerrainRenderContext(BlockRenderCache renderCache) {
-		WorldSlice worldSlice = renderCache.getWorldSlice();
-		BlockOcclusionCache blockOcclusionCache = ((AccessBlockRenderer) renderCache.getBlockRenderer()).indium$occlusionCache();
-		lightCache = ((AccessBlockRenderCache) renderCache).indium$getLightDataCache();
+		this(new TerrainBlockRenderInfo(((AccessBlockRenderer) renderCache.getBlockRenderer()).indium$occlusionCache()),
+				((AccessBlockRenderCache) renderCache).indium$getLightDataCache(), renderCache.getBlockRenderer(), Indium.AMBIENT_OCCLUSION_MODE);
+		blockInfo.prepareForWorld(renderCache.getWorldSlice(), true);
+	}
 
-		blockInfo = new TerrainBlockRenderInfo(blockOcclusionCache);
+	/**
+	 * Creates a context that isn't attached to a chunk build cache, so that benchmarks can run {@link #tessellateBlock}.
+	 * Such contexts have no chunk build buffers, so {@link #pushQuad} must be overridden. Without a block renderer,
+	 * they also can't hand forwarded models to Sodium.
+	 */
+	protected TerrainRenderContext(TerrainBlockRenderInfo blockInfo, LightDataAccess lightCache, @Nullable BlockRenderer blockRenderer, AoConfig aoMode) {
+		this.lightCache = lightCache;
+		this.blockRenderer = blockRenderer;
+		this.blockInfo = blockInfo;
 		blockInfo.random = new LocalRandom(42L);
-		blockInfo.prepareForWorld(worldSlice, true);
-		aoCalc = new AoCalculator(blockInfo, lightCache);
+		aoCalc = new AoCalculator(blockInfo, lightCache, aoMode);
+
+		if (Indium.PROFILE_CHUNK_BUILDS) {
+			stats = new ChunkBuildStats();
+			aoCalc.stats(stats);
+		}
 	}
 
 	public static TerrainRenderContext get(ChunkBuildContext buildContext) {
@@ -83,6 +118,16 @@ public class TerrainRenderContext extends AbstractBlockRenderContext {
 			out.light = quad.lightmap(srcIndex);
 		}
 
+		pushQuad(quad, material, vertices);
+		quadsBuffered++;
+
+		if (stats != null) stats.quadsBuffered++;
+	}
+
+	/**
+	 * Writes the final vertices of a quad to the chunk build buffers and marks its sprite as used.
+	 */
+	protected void pushQuad(MutableQuadViewImpl quad, Material material, ChunkVertexEncoder.Vertex[] vertices) {
 		ChunkModelBuilder builder = buffers.get(material);
 		ModelQuadFacing normalFace = quad.normalFace();
 		var vertexBuffer = builder.getVertexBuffer(normalFace);
@@ -118,22 +163,143 @@ public class TerrainRenderContext extends AbstractBlockRenderContext {
 		// Release only block references: this is called after every build; TerrainRenderContext is world-specific
 		blockInfo.releaseBlock();
 		buffers = null;
+
+		if (stats != null) {
+			stats.maxTransformDepth = maxTransformDepth;
+			maxTransformDepth = 0;
+			stats.flush();
+		}
+	}
+
+	/** Called from chunk renderer hook for blocks rendered by Sodium instead of Indium. */
+	public void countDelegatedBlock() {
+		if (stats != null) stats.delegatedBlocks++;
 	}
 
 	/** Called from chunk renderer hook. */
 	public void tessellateBlock(BlockRenderContext ctx) {
+		if (VanillaPassthrough.isEnabled()) {
+			final BakedModel forwarded = VanillaPassthrough.forwardedModel(ctx.model(), ctx.state());
+
+			if (forwarded != null) {
+				renderForwarded(ctx, forwarded);
+				return;
+			}
+		}
+
+		final boolean sampled = ModelCostProfiler.isEnabled() && ++blocksSinceSample >= ModelCostProfiler.SAMPLE_RATE;
+		final int startQuads = quadsBuffered;
+		final long start = stats != null || sampled ? System.nanoTime() : 0;
+
 		try {
 			this.origin = ctx.origin();
 			this.modelOffset = ctx.state().getModelOffset(ctx.world(), ctx.pos());
 
 			aoCalc.clear();
 			blockInfo.prepareForBlock(ctx.state(), ctx.pos(), ctx.seed(), ctx.model().useAmbientOcclusion());
-			ctx.model().emitBlockQuads(blockInfo.blockView, blockInfo.blockState, blockInfo.blockPos, blockInfo.randomSupplier, this);
+
+			if (BlockQuadCache.isEnabled()) {
+				tessellateCached(ctx.model());
+			} else {
+				emitModel(ctx.model());
+			}
 		} catch (Throwable throwable) {
 			CrashReport crashReport = CrashReport.create(throwable, "Tessellating block in world - Indium Renderer");
 			CrashReportSection crashReportSection = crashReport.addElement("Block being tessellated");
 			CrashReportSection.addBlockInfo(crashReportSection, ctx.world(), ctx.pos(), ctx.state());
 			throw new CrashException(crashReport);
 		}
+
+		if (stats != null) {
+			stats.indiumBlocks++;
+			stats.indiumNanos += System.nanoTime() - start;
+		}
+
+		if (sampled) {
+			blocksSinceSample = 0;
+			ModelCostProfiler.record(ctx.model(), ctx.state(), System.nanoTime() - start, quadsBuffered - startQuads);
+		}
+	}
+
+	private void tessellateCached(BakedModel model) {
+		final BlockQuadCache.Key key = new BlockQuadCache.Key(model, blockInfo.blockState);
+		final BlockQuadCache.Entry entry = BlockQuadCache.get(key);
+
+		if (entry != null) {
+			final RecordedQuads quads = entry.find(blockInfo);
+
+			if (quads != null) {
+				replayQuads(quads);
+				return;
+			}
+
+			if (!entry.acceptsVariants()) {
+				emitModel(model);
+				return;
+			}
+		}
+
+		startRecording();
+
+		try {
+			emitModel(model);
+
+			if (blockInfo.randomUsed) {
+				BlockQuadCache.putSeedDependent(key);
+			} else {
+				final int checkedFaces = blockInfo.checkedFaceMask();
+				BlockQuadCache.put(key, checkedFaces, blockInfo.drawnFaceMask(checkedFaces), recordedQuads());
+			}
+		} finally {
+			stopRecording();
+		}
+	}
+
+	private void emitModel(BakedModel model) {
+		if (!VanillaPassthrough.isEnabled() || !VanillaPassthrough.isObserving(model, blockInfo.blockState)) {
+			model.emitBlockQuads(blockInfo.blockView, blockInfo.blockState, blockInfo.blockPos, blockInfo.randomSupplier, this);
+			return;
+		}
+
+		observingPassthrough = true;
+		passthroughEligible = true;
+		passthroughModel = null;
+
+		try {
+			model.emitBlockQuads(blockInfo.blockView, blockInfo.blockState, blockInfo.blockPos, blockInfo.randomSupplier, this);
+		} finally {
+			observingPassthrough = false;
+		}
+
+		VanillaPassthrough.observe(model, blockInfo.blockState, passthroughEligible ? passthroughModel : null);
+		passthroughModel = null;
+	}
+
+	/** Lets Sodium render the vanilla model that the block's model is known to forward to. */
+	private void renderForwarded(BlockRenderContext ctx, BakedModel forwarded) {
+		final Vector3fc origin = ctx.origin();
+		passthroughOrigin.set(origin.x(), origin.y(), origin.z());
+		ctx.update(ctx.pos(), passthroughOrigin, ctx.state(), forwarded, ctx.seed());
+		blockRenderer.renderModel(ctx, buffers);
+		countDelegatedBlock();
+	}
+
+	@Override
+	public QuadEmitter getEmitter() {
+		passthroughEligible = false;
+		return super.getEmitter();
+	}
+
+	@Override
+	protected void onVanillaModel(BakedModel model, @Nullable BlockState state, Supplier<Random> randomSupplier) {
+		if (!observingPassthrough) {
+			return;
+		}
+
+		if (passthroughModel != null || hasTransform() || state != blockInfo.blockState || randomSupplier != blockInfo.randomSupplier || !model.isVanillaAdapter()) {
+			passthroughEligible = false;
+		} else {
+			passthroughModel = model;
+		}
 	}
 }
@@ -0,0 +1,88 @@
+package link.infra.indium.renderer.render;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.Nullable;
+
+import link.infra.indium.Indium;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.model.BakedModel;
+
+/**
+ * Learns which models only ever forward a single block state to a vanilla model, like the wrapper models of many
+ * compatibility mods, so that terrain rendering can hand the wrapped model to Sodium directly.
+ * Enabled by setting {@code vanilla-passthrough-threshold} to the number of consistent observations required.
+ *
+ * <p>A block counts as forwarding if its model emitted exactly one vanilla adapter model, with the block's own state
+ * and random supplier, without active transforms or any use of the quad emitter. Any other observation excludes the
+ * model and state until the next resource reload. Only the first observation of a state allocates, and states stop
+ * being observed once they are excluded or forwarded.
+ */
+public final class VanillaPassthrough {
+	public static final int THRESHOLD = Indium.VANILLA_PASSTHROUGH_THRESHOLD;
+
+	// Keyed by state alone, since Sodium looks models up by state; the model is checked against the observation
+	private static final Map<BlockState, Observation> OBSERVATIONS = new ConcurrentHashMap<>();
+	private static final Observation EXCLUDED = new Observation(null, null);
+
+	private VanillaPassthrough() {
+	}
+
+	/** Passthrough hands blocks to Sodium, so it is disabled when Indium is configured to tessellate every block. */
+	public static boolean isEnabled() {
+		return THRESHOLD > 0 && !Indium.ALWAYS_TESSELLATE_INDIUM;
+	}
+
+	public static void clear() {
+		OBSERVATIONS.clear();
+	}
+
+	/** Returns the vanilla model to render instead of the given model, or null if it isn't known to be forwarding. */
+	@Nullable
+	static BakedModel forwardedModel(BakedModel model, BlockState state) {
+		final Observation observation = OBSERVATIONS.get(state);
+		return observation != null && observation.model == model && observation.count.get() >= THRESHOLD ? observation.inner : null;
+	}
+
+	/** Whether rendering the block should still be observed, which stops once it is excluded or forwarded. */
+	static boolean isObserving(BakedModel model, BlockState state) {
+		final Observation observation = OBSERVATIONS.get(state);
+		return observation == null || (observation.model == model && observation.count.get() < THRESHOLD);
+	}
+
+	/**
+	 * Records how a model rendered a block.
+	 * @param inner the vanilla model the block was forwarded to, or null if the block was not eligible
+	 */
+	static void observe(BakedModel model, BlockState state, @Nullable BakedModel inner) {
+		final Observation observation = OBSERVATIONS.get(state);
+
+		if (observation == EXCLUDED || (observation != null && observation.count.get() >= THRESHOLD)) {
+			return;
+		}
+
+		if (inner == null || (observation != null && (observation.model != model || observation.inner != inner))) {
+			// Unconditional, so that a concurrent first observation can't undo the exclusion
+			OBSERVATIONS.put(state, EXCLUDED);
+		} else if (observation == null) {
+			OBSERVATIONS.putIfAbsent(state, new Observation(model, inner));
+		} else {
+			observation.count.incrementAndGet();
+		}
+	}
+
+	private static final class Observation {
+		@Nullable
+		final BakedModel model;
+		@Nullable
+		final BakedModel inner;
+		final AtomicInteger count = new AtomicInteger(1);
+
+		Observation(@Nullable BakedModel model, @Nullable BakedModel inner) {
+			this.model = model;
+			this.inner = inner;
+		}
+	}
+}